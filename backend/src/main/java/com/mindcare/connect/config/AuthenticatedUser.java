@@ -0,0 +1,120 @@
+package com.mindcare.connect.config;
+
+import com.mindcare.connect.entity.Role;
+import com.mindcare.connect.entity.UserStatus;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Identity of the caller, taken from the JWT claims that JwtAuthenticationFilter
+ * verified once for the current request and stored as a request attribute.
+ * Controllers receive it through @CurrentUser parameters.
+ */
+public class AuthenticatedUser implements Principal {
+
+    public static final String REQUEST_ATTRIBUTE = AuthenticatedUser.class.getName();
+
+    private final String tokenId;
+    private final Long userId;
+    private final String email;
+    private final Set<Role> roles;
+    private final UserStatus status;
+    private final Date expiresAt;
+
+    public AuthenticatedUser(String tokenId, Long userId, String email, Set<Role> roles, UserStatus status,
+                             Date expiresAt) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.email = email;
+        this.roles = roles.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(EnumSet.copyOf(roles));
+        this.status = status;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Build from already verified claims (userId, roles and status as written by UserService)
+     */
+    public static AuthenticatedUser fromClaims(Claims claims) {
+        Object userIdClaim = claims.get("userId");
+        Long userId = userIdClaim instanceof Number number ? number.longValue() : null;
+
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        if (claims.get("roles") instanceof Collection<?> roleClaims) {
+            for (Object role : roleClaims) {
+                try {
+                    roles.add(Role.valueOf(String.valueOf(role)));
+                } catch (IllegalArgumentException ignored) {
+                    // Unknown role names from older tokens grant nothing
+                }
+            }
+        }
+
+        UserStatus status = null;
+        Object statusClaim = claims.get("status");
+        if (statusClaim != null) {
+            try {
+                status = UserStatus.valueOf(statusClaim.toString());
+            } catch (IllegalArgumentException ignored) {
+                // Left null; status checks treat it as unknown
+            }
+        }
+
+        return new AuthenticatedUser(claims.getId(), userId, claims.getSubject(), roles, status, claims.getExpiration());
+    }
+
+    /**
+     * Principal of the current request, or null when it is unauthenticated
+     */
+    public static AuthenticatedUser from(HttpServletRequest request) {
+        Object attribute = request.getAttribute(REQUEST_ATTRIBUTE);
+        return attribute instanceof AuthenticatedUser user ? user : null;
+    }
+
+    /**
+     * Same identity with status and roles replaced by their current stored values
+     */
+    public AuthenticatedUser withState(UserStatus currentStatus, Set<Role> currentRoles) {
+        return new AuthenticatedUser(tokenId, userId, email, currentRoles, currentStatus, expiresAt);
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public boolean hasRole(Role role) {
+        return roles.contains(role);
+    }
+
+    // Getters
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Set<Role> getRoles() {
+        return roles;
+    }
+
+    public UserStatus getStatus() {
+        return status;
+    }
+
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+}
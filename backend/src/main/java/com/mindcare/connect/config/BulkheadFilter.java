@@ -0,0 +1,279 @@
+package com.mindcare.connect.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-endpoint-class bulkheads in front of the security chain (whose JWT filter
+ * already needs a database connection). Each class (auth, public, professional,
+ * admin, documents) gets a bounded number of concurrent requests and a short,
+ * bounded wait queue. A saturated class answers 503 with Retry-After right away
+ * instead of parking its callers inside getConnection(). Limits:
+ * bulkhead.{class}.max-concurrent and bulkhead.{class}.max-queue; state is published
+ * as http.bulkhead.* meters. A burst on one class cannot starve the others only while
+ * the classes together fit in the Hikari maximum-pool-size; past that they compete for
+ * connections again. No class may run more requests than there are connections, and a
+ * sum above the pool logs a warning at startup, or fails it when
+ * bulkhead.enforce-pool-budget is set (as the production profile does).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class BulkheadFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(BulkheadFilter.class);
+
+    public enum EndpointClass {
+        AUTH("/auth", 3, 6),
+        PUBLIC("/public", 2, 4),
+        PROFESSIONAL("/professional", 2, 4),
+        ADMIN("/admin", 2, 4),
+        DOCUMENTS("/documents", 2, 2);
+
+        private final String pathPrefix;
+        private final int defaultMaxConcurrent;
+        private final int defaultMaxQueue;
+
+        EndpointClass(String pathPrefix, int defaultMaxConcurrent, int defaultMaxQueue) {
+            this.pathPrefix = pathPrefix;
+            this.defaultMaxConcurrent = defaultMaxConcurrent;
+            this.defaultMaxQueue = defaultMaxQueue;
+        }
+
+        public String getPropertyKey() {
+            return name().toLowerCase();
+        }
+
+        static EndpointClass forPath(String path) {
+            for (EndpointClass endpointClass : values()) {
+                if (path.equals(endpointClass.pathPrefix) || path.startsWith(endpointClass.pathPrefix + "/")) {
+                    return endpointClass;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Map<EndpointClass, Bulkhead> bulkheads = new EnumMap<>(EndpointClass.class);
+    private final boolean enabled;
+    private final long maxWaitMs;
+    private final long retryAfterSeconds;
+    private final int poolSize;
+
+    public BulkheadFilter(Environment environment, MeterRegistry meterRegistry) {
+        this.enabled = environment.getProperty("bulkhead.enabled", Boolean.class, true);
+        this.maxWaitMs = environment.getProperty("bulkhead.max-wait-ms", Long.class, 1000L);
+        this.retryAfterSeconds = environment.getProperty("bulkhead.retry-after-seconds", Long.class, 2L);
+        this.poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "bulkhead." + endpointClass.getPropertyKey();
+            int maxConcurrent = environment.getProperty(prefix + ".max-concurrent", Integer.class,
+                                                        endpointClass.defaultMaxConcurrent);
+            int maxQueue = environment.getProperty(prefix + ".max-queue", Integer.class, endpointClass.defaultMaxQueue);
+            if (maxConcurrent < 1 || maxQueue < 0) {
+                throw new IllegalStateException(prefix + " needs max-concurrent >= 1 and max-queue >= 0, got " +
+                                                maxConcurrent + " and " + maxQueue);
+            }
+            if (maxConcurrent > poolSize) {
+                // Requests beyond the pool size would only wait inside getConnection()
+                log.warn("{}.max-concurrent ({}) exceeds the Hikari pool size ({}); capping it at the pool size",
+                         prefix, maxConcurrent, poolSize);
+                maxConcurrent = poolSize;
+            }
+            bulkheads.put(endpointClass, new Bulkhead(endpointClass, maxConcurrent, maxQueue, meterRegistry));
+        }
+
+        int totalMaxConcurrent = totalMaxConcurrent();
+        if (totalMaxConcurrent > poolSize) {
+            String message = "Bulkheads admit " + totalMaxConcurrent + " concurrent requests (plus " + totalMaxQueue() +
+                             " queued) against a Hikari pool of " + poolSize + " connections";
+            if (environment.getProperty("bulkhead.enforce-pool-budget", Boolean.class, false)) {
+                throw new IllegalStateException(message + "; lower bulkhead.*.max-concurrent or raise the pool size");
+            }
+            log.warn("{}; classes will contend for connections once more than {} are busy", message, poolSize);
+        }
+
+        long hikariTimeoutMs = environment.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30000L);
+        if (maxWaitMs >= hikariTimeoutMs) {
+            log.warn("bulkhead.max-wait-ms ({}) is not below the Hikari connection timeout ({}); " +
+                     "saturated endpoint classes will not shed load before the pool times out", maxWaitMs, hikariTimeoutMs);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        // CORS preflights never reach the database
+        return !enabled || "OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        EndpointClass endpointClass = EndpointClass.forPath(path);
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Bulkhead bulkhead = bulkheads.get(endpointClass);
+        if (!bulkhead.acquire(maxWaitMs)) {
+            reject(response, endpointClass);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean(false);
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        };
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Async handlers keep their slot until the response is complete
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) { release.run(); }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) { release.run(); }
+
+                    @Override
+                    public void onError(AsyncEvent event) { release.run(); }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {}
+                });
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    /**
+     * Connection budget, plus current limits and occupancy per endpoint class
+     */
+    public Map<String, Object> getSnapshot() {
+        Map<String, Object> budget = new LinkedHashMap<>();
+        budget.put("poolSize", poolSize);
+        budget.put("totalMaxConcurrent", totalMaxConcurrent());
+        budget.put("totalMaxQueue", totalMaxQueue());
+        budget.put("overBudget", totalMaxConcurrent() > poolSize);
+
+        Map<String, Map<String, Object>> classes = new LinkedHashMap<>();
+        bulkheads.forEach((endpointClass, bulkhead) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("maxConcurrent", bulkhead.maxConcurrent);
+            entry.put("maxQueue", bulkhead.maxQueue);
+            entry.put("active", bulkhead.active());
+            entry.put("queued", bulkhead.queued.get());
+            entry.put("rejected", (long) bulkhead.rejected.count());
+            classes.put(endpointClass.getPropertyKey(), entry);
+        });
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("connectionBudget", budget);
+        snapshot.put("classes", classes);
+        return snapshot;
+    }
+
+    private int totalMaxConcurrent() {
+        return bulkheads.values().stream().mapToInt(bulkhead -> bulkhead.maxConcurrent).sum();
+    }
+
+    private int totalMaxQueue() {
+        return bulkheads.values().stream().mapToInt(bulkhead -> bulkhead.maxQueue).sum();
+    }
+
+    private void reject(HttpServletResponse response, EndpointClass endpointClass) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Service temporarily busy (" + endpointClass.getPropertyKey() +
+                                   "), please retry in " + retryAfterSeconds + "s");
+    }
+
+    private static final class Bulkhead {
+        private final int maxConcurrent;
+        private final int maxQueue;
+        private final Semaphore permits;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final Counter rejected;
+
+        Bulkhead(EndpointClass endpointClass, int maxConcurrent, int maxQueue, MeterRegistry meterRegistry) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueue = maxQueue;
+            this.permits = new Semaphore(maxConcurrent, true);
+            String tag = endpointClass.getPropertyKey();
+            this.rejected = Counter.builder("http.bulkhead.rejected")
+                    .description("Requests shed by an endpoint-class bulkhead")
+                    .tag("class", tag).register(meterRegistry);
+            Gauge.builder("http.bulkhead.active", this, Bulkhead::active)
+                    .description("Requests currently holding a bulkhead slot")
+                    .tag("class", tag).register(meterRegistry);
+            Gauge.builder("http.bulkhead.queued", queued, AtomicInteger::get)
+                    .description("Requests waiting for a bulkhead slot")
+                    .tag("class", tag).register(meterRegistry);
+        }
+
+        boolean acquire(long maxWaitMs) {
+            if (permits.tryAcquire()) {
+                return true;
+            }
+            if (queued.incrementAndGet() > maxQueue) {
+                queued.decrementAndGet();
+                rejected.increment();
+                return false;
+            }
+            try {
+                if (permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+                rejected.increment();
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected.increment();
+                return false;
+            } finally {
+                queued.decrementAndGet();
+            }
+        }
+
+        void release() {
+            permits.release();
+        }
+
+        int active() {
+            return maxConcurrent - permits.availablePermits();
+        }
+    }
+}
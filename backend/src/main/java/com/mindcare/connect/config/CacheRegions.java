@@ -0,0 +1,21 @@
+package com.mindcare.connect.config;
+
+/**
+ * Second-level cache region names. Every region must have a bounded entry in
+ * application.conf; Hibernate is configured to fail on regions it cannot find there.
+ */
+public final class CacheRegions {
+
+    // Entity regions
+    public static final String USERS = "users";
+    public static final String PRE_APPROVED_PROFESSIONALS = "pre-approved-professionals";
+
+    // Query result regions
+    public static final String USER_LOOKUPS = "user-lookups";
+    public static final String PRE_APPROVED_LOOKUPS = "pre-approved-lookups";
+
+    public static final String[] DOMAIN_REGIONS = {USERS, PRE_APPROVED_PROFESSIONALS};
+    public static final String[] QUERY_REGIONS = {USER_LOOKUPS, PRE_APPROVED_LOOKUPS};
+
+    private CacheRegions() {}
+}
@@ -0,0 +1,23 @@
+package com.mindcare.connect.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the caller's AuthenticatedUser into a controller method parameter.
+ * Resolved by CurrentUserArgumentResolver from the principal JwtAuthenticationFilter
+ * stored on the request; a required parameter on an unauthenticated request yields 401.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+
+    /**
+     * Whether the request must be authenticated; optional parameters receive null instead
+     */
+    boolean required() default true;
+}
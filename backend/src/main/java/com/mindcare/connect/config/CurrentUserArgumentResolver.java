@@ -0,0 +1,34 @@
+package com.mindcare.connect.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Resolves @CurrentUser parameters from the request attribute set by JwtAuthenticationFilter,
+ * so controllers get the caller's identity without touching the token again.
+ */
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class) &&
+               AuthenticatedUser.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        AuthenticatedUser user = request != null ? AuthenticatedUser.from(request) : null;
+        if (user == null && parameter.getParameterAnnotation(CurrentUser.class).required()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized: Invalid token");
+        }
+        return user;
+    }
+}
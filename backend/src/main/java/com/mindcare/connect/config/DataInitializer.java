@@ -32,8 +32,5 @@ public class DataInitializer implements CommandLineRunner {
         } else {
             System.out.println("Admin user already exists: " + adminEmail);
         }
-        
-        // Unlock any expired account locks
-        userService.unlockExpiredAccounts();
     }
 }
@@ -1,30 +1,46 @@
 package com.mindcare.connect.config;
 
 import com.mindcare.connect.service.JwtService;
-import com.mindcare.connect.service.UserService;
+import com.mindcare.connect.service.TokenRevocationService;
+import com.mindcare.connect.service.UserAuthStateCache;
+import com.mindcare.connect.service.UserAuthStateCache.UserAuthState;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
+/**
+ * Verifies the bearer token once per request and builds the principal from its
+ * claims, without loading the user. Only status and roles are checked against
+ * UserAuthStateCache, so suspended or banned users and changed roles take effect
+ * on existing tokens, and revoked token ids are rejected. The principal is also exposed as an AuthenticatedUser
+ * request attribute so controllers never re-parse the token.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
-    private final UserService userService;
+    private final UserAuthStateCache authStateCache;
+    private final TokenRevocationService revocationService;
     
-    public JwtAuthenticationFilter(JwtService jwtService, UserService userService) {
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserAuthStateCache authStateCache,
+                                   TokenRevocationService revocationService) {
         this.jwtService = jwtService;
-        this.userService = userService;
+        this.authStateCache = authStateCache;
+        this.revocationService = revocationService;
     }
     
     @Override
@@ -35,8 +51,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
         
         // Check if Authorization header is present and starts with "Bearer "
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -44,23 +58,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         
-        // Extract JWT token
-        jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        // Verify signature and expiry exactly once
+        final Claims claims;
+        try {
+            claims = jwtService.parseClaims(authHeader.substring(7));
+        } catch (JwtException | IllegalArgumentException e) {
+            // Invalid or expired token: continue unauthenticated and let authorization reject it
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        // Revoked tokens (logged out) are treated like invalid ones
+        if (revocationService.isRevoked(claims.getId())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final AuthenticatedUser tokenUser = AuthenticatedUser.fromClaims(claims);
         
-        // If email is present and user is not already authenticated
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userService.loadUserByUsername(userEmail);
+        // If the token identifies a user and the request is not already authenticated
+        if (tokenUser.getUserId() != null && tokenUser.getEmail() != null &&
+            SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserAuthState state = authStateCache.get(tokenUser.getUserId());
             
-            // Validate token
-            if (jwtService.validateToken(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
+            if (state.canAuthenticate()) {
+                AuthenticatedUser user = tokenUser.withState(state.status(), state.roles());
+                List<SimpleGrantedAuthority> authorities = user.getRoles().stream()
+                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                        .toList();
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(user, null, authorities);
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                request.setAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE, user);
             }
         }
         
@@ -0,0 +1,230 @@
+package com.mindcare.connect.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Fast-fails non-critical database work (directory search, statistics, reference
+ * list searches) before it asks the pool for a connection. A circuit opens after a
+ * run of timeouts or connection-acquisition failures and rejects calls for the open
+ * period; independently, calls are shed while threads are already queued for a
+ * connection on the primary pool. Critical paths (auth, approvals) do not go
+ * through here, so they get the connections non-critical work gives up.
+ * Callers turn CircuitOpenException into 503 with Retry-After.
+ */
+@Component
+public class PersistenceCircuitBreaker {
+    private static final Logger log = LoggerFactory.getLogger(PersistenceCircuitBreaker.class);
+
+    public static final String DIRECTORY_SEARCH = "directory-search";
+    public static final String STATISTICS = "statistics";
+    public static final String PRE_APPROVED_SEARCH = "pre-approved-search";
+    public static final String VERIFICATION_HISTORY = "verification-history";
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final List<HikariDataSource> writablePools;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    @Value("${db.circuit-breaker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${db.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${db.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${db.circuit-breaker.saturation-waiters:1}")
+    private int saturationWaiters;
+
+    public PersistenceCircuitBreaker(MeterRegistry meterRegistry, List<DataSource> dataSources) {
+        this.meterRegistry = meterRegistry;
+        // The read-only replica pool never backs the primary's saturation check
+        this.writablePools = dataSources.stream()
+                .filter(HikariDataSource.class::isInstance)
+                .map(HikariDataSource.class::cast)
+                .filter(pool -> !pool.isReadOnly())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Run non-critical database work under the named circuit
+     */
+    public <T> T call(String name, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+
+        Circuit circuit = circuit(name);
+        long now = System.currentTimeMillis();
+        if (!circuit.tryAcquire(now)) {
+            circuit.rejectedOpen.increment();
+            throw new CircuitOpenException(name, circuit.retryAfterSeconds(now));
+        }
+        if (isSaturated()) {
+            circuit.release();
+            circuit.rejectedSaturated.increment();
+            throw new CircuitOpenException(name, 1);
+        }
+
+        try {
+            T result = action.get();
+            circuit.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (isDatabaseOverload(e)) {
+                if (circuit.onFailure(System.currentTimeMillis())) {
+                    log.warn("Circuit {} opened for {}ms after repeated database timeouts: {}", name, openDurationMs,
+                             e.getMessage());
+                }
+                circuit.failures.increment();
+            } else {
+                circuit.onSuccess();
+            }
+            throw e;
+        }
+    }
+
+    public State getState(String name) {
+        return circuit(name).state;
+    }
+
+    /**
+     * True while requests are already queued for a connection on a writable pool
+     */
+    public boolean isSaturated() {
+        for (HikariDataSource pool : writablePools) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            if (mxBean != null && mxBean.getThreadsAwaitingConnection() >= saturationWaiters) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isDatabaseOverload(Throwable e) {
+        // Services wrap exceptions with a message prefix, so look through the cause chain
+        if (QueryTimeouts.isTimeout(e)) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CannotGetJdbcConnectionException || cause instanceof CannotCreateTransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Circuit circuit(String name) {
+        return circuits.computeIfAbsent(name, Circuit::new);
+    }
+
+    private final class Circuit {
+        private volatile State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        private final Counter failures;
+        private final Counter rejectedOpen;
+        private final Counter rejectedSaturated;
+
+        Circuit(String name) {
+            this.failures = Counter.builder("db.circuit.failures")
+                    .description("Timeouts and connection failures seen by a persistence circuit")
+                    .tag("circuit", name).register(meterRegistry);
+            this.rejectedOpen = Counter.builder("db.circuit.rejections")
+                    .description("Calls fast-failed by a persistence circuit")
+                    .tag("circuit", name).tag("reason", "open").register(meterRegistry);
+            this.rejectedSaturated = Counter.builder("db.circuit.rejections")
+                    .description("Calls fast-failed by a persistence circuit")
+                    .tag("circuit", name).tag("reason", "saturated").register(meterRegistry);
+            Gauge.builder("db.circuit.state", this, circuit -> circuit.state.ordinal())
+                    .description("Circuit state: 0 closed, 1 half-open, 2 open")
+                    .tag("circuit", name).register(meterRegistry);
+        }
+
+        synchronized boolean tryAcquire(long now) {
+            if (state == State.OPEN) {
+                if (now - openedAt < openDurationMs) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+            }
+            if (state == State.HALF_OPEN) {
+                // Let a single trial call through to probe the database
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+            }
+            return true;
+        }
+
+        synchronized void release() {
+            trialInFlight = false;
+        }
+
+        synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            trialInFlight = false;
+            state = State.CLOSED;
+        }
+
+        /**
+         * Returns true when this failure opened the circuit
+         */
+        synchronized boolean onFailure(long now) {
+            trialInFlight = false;
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openedAt = now;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized long retryAfterSeconds(long now) {
+            long remainingMs = state == State.OPEN ? openDurationMs - (now - openedAt) : 1000;
+            return Math.max(1, (remainingMs + 999) / 1000);
+        }
+    }
+
+    public static class CircuitOpenException extends RuntimeException {
+        private final String circuit;
+        private final long retryAfterSeconds;
+
+        public CircuitOpenException(String circuit, long retryAfterSeconds) {
+            super("Service temporarily unavailable (" + circuit + "), please retry in " + retryAfterSeconds + "s");
+            this.circuit = circuit;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public String getCircuit() { return circuit; }
+
+        public long getRetryAfterSeconds() { return retryAfterSeconds; }
+    }
+}
@@ -0,0 +1,52 @@
+package com.mindcare.connect.config;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+/**
+ * Statement timeout classes for repository methods, applied with
+ * {@code @QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.AUTH)}.
+ * Values are milliseconds and whole seconds, since JDBC statement timeouts have
+ * second granularity. Unannotated queries use the global default
+ * (spring.jpa.properties.jakarta.persistence.query.timeout).
+ */
+public final class QueryTimeouts {
+
+    public static final String HINT = "jakarta.persistence.query.timeout";
+
+    // Per-request authentication lookups: fail fast rather than hold one of the pool's connections
+    public static final String AUTH = "2000";
+
+    // Single-row lookups by key
+    public static final String LOOKUP = "3000";
+
+    // User-driven searches, including LIKE '%x%' predicates that cannot use an index
+    public static final String SEARCH = "5000";
+
+    // Dashboard aggregates and analytics ranges
+    public static final String REPORT = "10000";
+
+    // Full-table reads for exports and reference list downloads
+    public static final String EXPORT = "30000";
+
+    private QueryTimeouts() {}
+
+    /**
+     * Whether a failure (at any depth of its cause chain) is a statement timeout
+     */
+    public static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof jakarta.persistence.QueryTimeoutException ||
+                cause instanceof org.hibernate.QueryTimeoutException ||
+                cause instanceof org.springframework.dao.QueryTimeoutException ||
+                cause instanceof SQLTimeoutException) {
+                return true;
+            }
+            // PostgreSQL query_canceled, raised when statement_timeout or the JDBC timeout fires
+            if (cause instanceof SQLException sqlException && "57014".equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
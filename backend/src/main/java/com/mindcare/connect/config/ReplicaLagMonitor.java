@@ -0,0 +1,63 @@
+package com.mindcare.connect.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Periodically measures replication lag on the replica. The replica is only used
+ * for reads while the last check succeeded and the lag is below the threshold;
+ * until the first successful check all reads stay on the primary.
+ */
+public class ReplicaLagMonitor {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    private volatile boolean replicaUsable = false;
+    private volatile Double lastLagSeconds;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, double maxLagSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(5);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            lastLagSeconds = lag != null ? lag : 0.0;
+            usable = lastLagSeconds <= maxLagSeconds;
+            if (!usable && replicaUsable) {
+                log.warn("Replica lag {}s exceeds {}s, routing reads to primary", lastLagSeconds, maxLagSeconds);
+            }
+        } catch (Exception e) {
+            lastLagSeconds = null;
+            usable = false;
+            if (replicaUsable) {
+                log.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            }
+        }
+
+        if (usable && !replicaUsable) {
+            log.info("Replica healthy (lag {}s), routing read-only transactions to replica", lastLagSeconds);
+        }
+        replicaUsable = usable;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public Double getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+}
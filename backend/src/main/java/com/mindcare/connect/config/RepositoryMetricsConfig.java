@@ -0,0 +1,65 @@
+package com.mindcare.connect.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Counts statement timeouts per repository method (db.query.timeouts, tagged with
+ * repository and method) by adding an interceptor to every Spring Data repository proxy.
+ */
+@Configuration
+public class RepositoryMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryTimeoutMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                        factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                            proxyFactory.addAdvice(new QueryTimeoutMetricsInterceptor(
+                                meterRegistry, repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class QueryTimeoutMetricsInterceptor implements MethodInterceptor {
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final String repository;
+
+        QueryTimeoutMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String repository) {
+            this.meterRegistry = meterRegistry;
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                if (QueryTimeouts.isTimeout(e)) {
+                    MeterRegistry registry = meterRegistry.getIfAvailable();
+                    if (registry != null) {
+                        Counter.builder("db.query.timeouts")
+                                .description("Repository calls aborted by their statement timeout")
+                                .tag("repository", repository)
+                                .tag("method", invocation.getMethod().getName())
+                                .register(registry)
+                                .increment();
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -35,13 +35,17 @@ public class SecurityConfig {
     @Value("${cors.allowed.origins}")
     private String allowedOrigins;
     
+    @Value("${security.bcrypt.strength:12}")
+    private int bcryptStrength;
+    
     public SecurityConfig(@Lazy JwtAuthenticationFilter jwtAuthenticationFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
     
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+        // Work factor is configurable; hashes with a different cost are upgraded on the next login
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
     
     @Bean
@@ -68,7 +72,8 @@ public class SecurityConfig {
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/public/**").permitAll()
                         .requestMatchers("/health").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         
                         // Admin only endpoints
                         .requestMatchers("/admin/**").hasRole("ADMIN")
@@ -1,22 +1,51 @@
 package com.mindcare.connect.controller;
 
+import com.mindcare.connect.config.AuthenticatedUser;
+import com.mindcare.connect.config.BulkheadFilter;
+import com.mindcare.connect.config.CurrentUser;
+import com.mindcare.connect.config.PersistenceCircuitBreaker;
+import com.mindcare.connect.config.PersistenceCircuitBreaker.CircuitOpenException;
+import com.mindcare.connect.dto.AutoApprovalRunResponse;
+import com.mindcare.connect.dto.BulkVerificationRequest;
+import com.mindcare.connect.dto.BulkUserProvisioningResponse;
+import com.mindcare.connect.dto.BulkVerificationResponse;
+import com.mindcare.connect.dto.CacheStatisticsResponse;
 import com.mindcare.connect.dto.ProfessionalVerificationResponse;
+import com.mindcare.connect.dto.SliceResponse;
+import com.mindcare.connect.dto.VerificationActivityResponse;
+import com.mindcare.connect.dto.VerificationStatisticsResponse;
+import com.mindcare.connect.entity.AutoApprovalAudit;
+import com.mindcare.connect.entity.AutoApprovalPolicy;
+import com.mindcare.connect.entity.MaintenanceJobRun;
 import com.mindcare.connect.entity.ProfessionalType;
+import com.mindcare.connect.entity.RollupGranularity;
+import com.mindcare.connect.entity.User;
+import com.mindcare.connect.entity.UserStatus;
 import com.mindcare.connect.entity.VerificationStatus;
+import com.mindcare.connect.service.AccountMaintenanceService;
+import com.mindcare.connect.service.AutoApprovalService;
+import com.mindcare.connect.service.BulkVerificationService;
+import com.mindcare.connect.service.EntityCacheService;
 import com.mindcare.connect.service.ProfessionalVerificationService;
-import com.mindcare.connect.service.JwtService;
+import com.mindcare.connect.service.UserProvisioningService;
+import com.mindcare.connect.service.UserService;
+import com.mindcare.connect.service.VerificationAnalyticsService;
+import com.mindcare.connect.service.VerificationArchiveService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotBlank;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,12 +60,40 @@ import java.util.Map;
 public class AdminController {
 
     private final ProfessionalVerificationService verificationService;
-    private final JwtService jwtService;
+    private final VerificationAnalyticsService analyticsService;
+    private final BulkVerificationService bulkVerificationService;
+    private final EntityCacheService entityCacheService;
+    private final AutoApprovalService autoApprovalService;
+    private final VerificationArchiveService archiveService;
+    private final PersistenceCircuitBreaker circuitBreaker;
+    private final BulkheadFilter bulkheadFilter;
+    private final UserService userService;
+    private final AccountMaintenanceService maintenanceService;
+    private final UserProvisioningService provisioningService;
 
     @Autowired
-    public AdminController(ProfessionalVerificationService verificationService, JwtService jwtService) {
+    public AdminController(ProfessionalVerificationService verificationService,
+                           VerificationAnalyticsService analyticsService,
+                           BulkVerificationService bulkVerificationService,
+                           EntityCacheService entityCacheService,
+                           AutoApprovalService autoApprovalService,
+                           VerificationArchiveService archiveService,
+                           PersistenceCircuitBreaker circuitBreaker,
+                           BulkheadFilter bulkheadFilter,
+                           UserService userService,
+                           AccountMaintenanceService maintenanceService,
+                           UserProvisioningService provisioningService) {
         this.verificationService = verificationService;
-        this.jwtService = jwtService;
+        this.analyticsService = analyticsService;
+        this.bulkVerificationService = bulkVerificationService;
+        this.entityCacheService = entityCacheService;
+        this.autoApprovalService = autoApprovalService;
+        this.archiveService = archiveService;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkheadFilter = bulkheadFilter;
+        this.userService = userService;
+        this.maintenanceService = maintenanceService;
+        this.provisioningService = provisioningService;
     }
 
     /**
@@ -45,9 +102,16 @@ public class AdminController {
     @GetMapping("/verifications/pending")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getPendingVerifications(@RequestParam(defaultValue = "0") int page,
-                                                     @RequestParam(defaultValue = "10") int size) {
+                                                     @RequestParam(defaultValue = "10") int size,
+                                                     @RequestParam(defaultValue = "page") String view,
+                                                     @RequestParam(defaultValue = "false") boolean includeTotal) {
         try {
             Pageable pageable = PageRequest.of(page, size);
+            if (isCompactView(view)) {
+                SliceResponse<ProfessionalVerificationResponse> applications =
+                    verificationService.getPendingApplicationsSlice(pageable, includeTotal);
+                return ResponseEntity.ok(applications);
+            }
             Page<ProfessionalVerificationResponse> applications = verificationService.getPendingApplications(pageable);
             return ResponseEntity.ok(applications);
 
@@ -63,9 +127,16 @@ public class AdminController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getAllVerifications(@RequestParam(required = false) VerificationStatus status,
                                                  @RequestParam(defaultValue = "0") int page,
-                                                 @RequestParam(defaultValue = "10") int size) {
+                                                 @RequestParam(defaultValue = "10") int size,
+                                                 @RequestParam(defaultValue = "page") String view,
+                                                 @RequestParam(defaultValue = "false") boolean includeTotal) {
         try {
             Pageable pageable = PageRequest.of(page, size);
+            if (isCompactView(view)) {
+                SliceResponse<ProfessionalVerificationResponse> applications =
+                    verificationService.getAllApplicationsSlice(status, pageable, includeTotal);
+                return ResponseEntity.ok(applications);
+            }
             Page<ProfessionalVerificationResponse> applications = verificationService.getAllApplications(status, pageable);
             return ResponseEntity.ok(applications);
 
@@ -81,12 +152,9 @@ public class AdminController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> approveVerification(@PathVariable Long verificationId,
                                                  @RequestBody(required = false) AdminActionRequest request,
-                                                 HttpServletRequest httpRequest) {
+                                                 @CurrentUser AuthenticatedUser currentUser) {
         try {
-            Long adminId = extractUserIdFromRequest(httpRequest);
-            if (adminId == null) {
-                return ResponseEntity.status(401).body("Unauthorized: Invalid token");
-            }
+            Long adminId = currentUser.getUserId();
 
             String notes = request != null ? request.getNotes() : "Approved by admin";
             ProfessionalVerificationResponse response = verificationService.approveApplication(verificationId, adminId, notes);
@@ -104,12 +172,9 @@ public class AdminController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> rejectVerification(@PathVariable Long verificationId,
                                                 @RequestBody AdminActionRequest request,
-                                                HttpServletRequest httpRequest) {
+                                                @CurrentUser AuthenticatedUser currentUser) {
         try {
-            Long adminId = extractUserIdFromRequest(httpRequest);
-            if (adminId == null) {
-                return ResponseEntity.status(401).body("Unauthorized: Invalid token");
-            }
+            Long adminId = currentUser.getUserId();
 
             if (request == null || request.getReason() == null || request.getReason().trim().isEmpty()) {
                 return ResponseEntity.badRequest().body("Rejection reason is required");
@@ -125,6 +190,169 @@ public class AdminController {
         }
     }
 
+    /**
+     * Priority-ordered review queue (overdue, then high/medium/low confidence)
+     */
+    @GetMapping("/verifications/queue")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getReviewQueue(@RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "10") int size,
+                                            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        try {
+            Pageable pageable = PageRequest.of(page, size);
+            SliceResponse<ProfessionalVerificationResponse> queue = verificationService.getPriorityQueue(pageable, includeTotal);
+            return ResponseEntity.ok(queue);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to get review queue: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Claim the next unclaimed pending applications for review under a time-limited lease
+     */
+    @PostMapping("/verifications/claim")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> claimVerifications(@RequestParam(defaultValue = "5") int count,
+                                                @CurrentUser AuthenticatedUser currentUser) {
+        try {
+            Long adminId = currentUser.getUserId();
+
+            List<ProfessionalVerificationResponse> claimed = verificationService.claimNextApplications(adminId, count);
+            return ResponseEntity.ok(claimed);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to claim applications: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Applications currently leased to the calling admin
+     */
+    @GetMapping("/verifications/claimed")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getClaimedVerifications(@CurrentUser AuthenticatedUser currentUser) {
+        try {
+            Long adminId = currentUser.getUserId();
+
+            List<ProfessionalVerificationResponse> claimed = verificationService.getClaimedApplications(adminId);
+            return ResponseEntity.ok(claimed);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to get claimed applications: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Release a claimed application back to the queue
+     */
+    @PostMapping("/verifications/{verificationId}/release")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> releaseVerification(@PathVariable Long verificationId,
+                                                 @CurrentUser AuthenticatedUser currentUser) {
+        try {
+            Long adminId = currentUser.getUserId();
+
+            ProfessionalVerificationResponse response = verificationService.releaseApplication(verificationId, adminId);
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to release application: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Approve or reject many applications at once, by id list or by filter
+     * (e.g. PENDING with minConfidence 0.95), with a per-item result
+     */
+    @PostMapping("/verifications/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> bulkVerification(@RequestBody BulkVerificationRequest request,
+                                              @CurrentUser AuthenticatedUser currentUser) {
+        try {
+            Long adminId = currentUser.getUserId();
+
+            BulkVerificationResponse response = bulkVerificationService.apply(request, adminId);
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to apply bulk action: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Auto-approval policy for every professional type
+     */
+    @GetMapping("/auto-approval/policies")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getAutoApprovalPolicies() {
+        try {
+            List<AutoApprovalPolicy> policies = autoApprovalService.getPolicies();
+            return ResponseEntity.ok(policies);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to get auto-approval policies: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Configure auto-approval for one professional type
+     */
+    @PutMapping("/auto-approval/policies/{type}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> updateAutoApprovalPolicy(@PathVariable String type,
+                                                      @RequestBody AutoApprovalPolicyRequest request,
+                                                      @CurrentUser AuthenticatedUser currentUser) {
+        try {
+            Long adminId = currentUser.getUserId();
+
+            ProfessionalType professionalType = ProfessionalType.valueOf(type.toUpperCase());
+            AutoApprovalPolicy policy = autoApprovalService.updatePolicy(professionalType, request.getEnabled(),
+                request.getDryRun(), request.getMinConfidence(), request.getRequireReferenceMatch(),
+                request.getMaxPerRun(), adminId);
+            return ResponseEntity.ok(policy);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid professional type: " + type);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to update auto-approval policy: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Run the auto-approval batch now; dryRun (the default) only reports what would be approved
+     */
+    @PostMapping("/auto-approval/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> runAutoApproval(@RequestParam(defaultValue = "true") boolean dryRun,
+                                             @CurrentUser AuthenticatedUser currentUser) {
+        try {
+            Long adminId = currentUser.getUserId();
+
+            AutoApprovalRunResponse response = autoApprovalService.run(dryRun, adminId);
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to run auto-approval: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Auto-approval audit trail, newest first
+     */
+    @GetMapping("/auto-approval/audits")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getAutoApprovalAudits(@RequestParam(defaultValue = "0") int page,
+                                                   @RequestParam(defaultValue = "20") int size) {
+        try {
+            Page<AutoApprovalAudit> audits = autoApprovalService.getAudits(PageRequest.of(page, size));
+            return ResponseEntity.ok(audits);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to get auto-approval audits: " + e.getMessage());
+        }
+    }
+
     /**
      * Get verification statistics for admin dashboard
      */
@@ -132,7 +360,7 @@ public class AdminController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getVerificationStatistics() {
         try {
-            List<Object[]> stats = verificationService.getVerificationStatistics();
+            VerificationStatisticsResponse stats = verificationService.getVerificationStatistics();
             return ResponseEntity.ok(stats);
 
         } catch (Exception e) {
@@ -140,6 +368,81 @@ public class AdminController {
         }
     }
 
+    /**
+     * Get submission/decision trends, time to decision and confidence distribution
+     * from pre-aggregated rollups
+     */
+    @GetMapping("/verifications/analytics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getVerificationAnalytics(
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) ProfessionalType professionalType) {
+        try {
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from
+                    : granularity == RollupGranularity.WEEK ? end.minusWeeks(11) : end.minusDays(29);
+
+            if (start.isAfter(end)) {
+                return ResponseEntity.badRequest().body("'from' must not be after 'to'");
+            }
+            long buckets = granularity == RollupGranularity.WEEK
+                    ? ChronoUnit.WEEKS.between(start, end) : ChronoUnit.DAYS.between(start, end);
+            if (buckets > 366) {
+                return ResponseEntity.badRequest().body("Date range too large for " + granularity + " granularity");
+            }
+
+            VerificationActivityResponse activity = circuitBreaker.call(PersistenceCircuitBreaker.STATISTICS,
+                () -> analyticsService.getActivity(granularity, start, end, professionalType));
+            return ResponseEntity.ok(activity);
+
+        } catch (CircuitOpenException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to get analytics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Archived (superseded or decided) applications: one user's history, or a search by archive date
+     */
+    @GetMapping("/verifications/history")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getVerificationHistory(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) ProfessionalType professionalType,
+            @RequestParam(required = false) VerificationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Pageable pageable = PageRequest.of(page, size);
+            if (userId != null) {
+                Page<ProfessionalVerificationResponse> history = circuitBreaker.call(
+                    PersistenceCircuitBreaker.VERIFICATION_HISTORY, () -> archiveService.getUserHistory(userId, pageable));
+                return ResponseEntity.ok(history);
+            }
+
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusMonths(3);
+            if (start.isAfter(end)) {
+                return ResponseEntity.badRequest().body("'from' must not be after 'to'");
+            }
+
+            Page<ProfessionalVerificationResponse> history = circuitBreaker.call(
+                PersistenceCircuitBreaker.VERIFICATION_HISTORY, () -> archiveService.search(professionalType, status,
+                    start.atStartOfDay(), end.plusDays(1).atStartOfDay(), pageable));
+            return ResponseEntity.ok(history);
+
+        } catch (CircuitOpenException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to get verification history: " + e.getMessage());
+        }
+    }
+
     /**
      * Get all verified professionals directory
      */
@@ -148,13 +451,24 @@ public class AdminController {
     public ResponseEntity<?> getAllProfessionals(@RequestParam(defaultValue = "0") int page,
                                                   @RequestParam(defaultValue = "20") int size,
                                                   @RequestParam(required = false) String search,
-                                                  @RequestParam(required = false) String professionalType) {
+                                                  @RequestParam(required = false) String professionalType,
+                                                  @RequestParam(defaultValue = "page") String view,
+                                                  @RequestParam(defaultValue = "false") boolean includeTotal) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<ProfessionalVerificationResponse> professionals = verificationService.getAllProfessionals(
-                professionalType, search, pageable);
+            if (isCompactView(view)) {
+                SliceResponse<ProfessionalVerificationResponse> professionals = circuitBreaker.call(
+                    PersistenceCircuitBreaker.DIRECTORY_SEARCH,
+                    () -> verificationService.getAllProfessionalsSlice(professionalType, search, pageable, includeTotal));
+                return ResponseEntity.ok(professionals);
+            }
+            Page<ProfessionalVerificationResponse> professionals = circuitBreaker.call(
+                PersistenceCircuitBreaker.DIRECTORY_SEARCH,
+                () -> verificationService.getAllProfessionals(professionalType, search, pageable));
             return ResponseEntity.ok(professionals);
 
+        } catch (CircuitOpenException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Failed to get professionals: " + e.getMessage());
         }
@@ -167,12 +481,9 @@ public class AdminController {
     @PostMapping("/verifications/upload-csv")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> uploadPreVerifiedProfessionals(@RequestParam("file") MultipartFile file,
-                                                             HttpServletRequest httpRequest) {
+                                                             @CurrentUser AuthenticatedUser currentUser) {
         try {
-            Long adminId = extractUserIdFromRequest(httpRequest);
-            if (adminId == null) {
-                return ResponseEntity.status(401).body(new CSVUploadResponse(false, "Unauthorized: Invalid token", 0));
-            }
+            Long adminId = currentUser.getUserId();
 
             if (file.isEmpty()) {
                 return ResponseEntity.badRequest().body(new CSVUploadResponse(false, "File is required", 0));
@@ -217,19 +528,19 @@ public class AdminController {
     }
 
     /**
-     * Helper method to extract user ID from JWT token
+     * 503 with Retry-After for work shed by the persistence circuit breaker
      */
-    private Long extractUserIdFromRequest(HttpServletRequest request) {
-        try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-                return jwtService.extractClaim(token, claims -> claims.get("userId", Long.class));
-            }
-            return null;
-        } catch (Exception e) {
-            return null;
-        }
+    private ResponseEntity<?> serviceUnavailable(CircuitOpenException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(e.getMessage());
+    }
+
+    /**
+     * Compact list view: Slice semantics with a minimal envelope instead of a full Page
+     */
+    private boolean isCompactView(String view) {
+        return "compact".equalsIgnoreCase(view);
     }
 
     /**
@@ -248,6 +559,46 @@ public class AdminController {
         public void setNotes(String notes) { this.notes = notes; }
     }
     
+    /**
+     * Inner class for auto-approval policy updates (null fields are left unchanged)
+     */
+    public static class AutoApprovalPolicyRequest {
+        private Boolean enabled;
+        private Boolean dryRun;
+        private Double minConfidence;
+        private Boolean requireReferenceMatch;
+        private Integer maxPerRun;
+
+        public AutoApprovalPolicyRequest() {}
+
+        public Boolean getEnabled() { return enabled; }
+        public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+
+        public Boolean getDryRun() { return dryRun; }
+        public void setDryRun(Boolean dryRun) { this.dryRun = dryRun; }
+
+        public Double getMinConfidence() { return minConfidence; }
+        public void setMinConfidence(Double minConfidence) { this.minConfidence = minConfidence; }
+
+        public Boolean getRequireReferenceMatch() { return requireReferenceMatch; }
+        public void setRequireReferenceMatch(Boolean requireReferenceMatch) { this.requireReferenceMatch = requireReferenceMatch; }
+
+        public Integer getMaxPerRun() { return maxPerRun; }
+        public void setMaxPerRun(Integer maxPerRun) { this.maxPerRun = maxPerRun; }
+    }
+
+    /**
+     * Inner class for user status changes
+     */
+    public static class UserStatusRequest {
+        private String status;
+
+        public UserStatusRequest() {}
+
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+    }
+
     /**
      * Response class for CSV upload
      */
@@ -291,14 +642,19 @@ public class AdminController {
                 }
             }
 
+            ProfessionalType searchType = professionalType;
             List<?> professionals;
             if (email != null || name != null || professionalType != null || specialization != null) {
-                professionals = verificationService.searchPreApprovedProfessionals(email, name, professionalType, specialization);
+                professionals = circuitBreaker.call(PersistenceCircuitBreaker.PRE_APPROVED_SEARCH,
+                    () -> verificationService.searchPreApprovedProfessionals(email, name, searchType, specialization));
             } else {
-                professionals = verificationService.getAllPreApprovedProfessionals();
+                professionals = circuitBreaker.call(PersistenceCircuitBreaker.PRE_APPROVED_SEARCH,
+                    () -> verificationService.getAllPreApprovedProfessionals());
             }
 
             return ResponseEntity.ok(professionals);
+        } catch (CircuitOpenException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body("Error retrieving pre-approved professionals: " + e.getMessage());
@@ -355,4 +711,156 @@ public class AdminController {
                 .body(Map.of("success", false, "message", "Error removing professional: " + e.getMessage()));
         }
     }
+
+    /**
+     * Suspend, ban or reactivate a user; takes effect on the user's existing tokens immediately
+     */
+    @PutMapping("/users/{userId}/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> updateUserStatus(@PathVariable Long userId,
+                                              @RequestBody UserStatusRequest request,
+                                              @CurrentUser AuthenticatedUser currentUser) {
+        UserStatus status = parseUserStatus(request.getStatus());
+        if (status == null) {
+            return ResponseEntity.badRequest().body("Invalid user status: " + request.getStatus());
+        }
+
+        try {
+            Long adminId = currentUser.getUserId();
+
+            User user = userService.updateUserStatus(userId, status, adminId);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("userId", user.getId());
+            response.put("status", user.getStatus());
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to update user status: " + e.getMessage());
+        }
+    }
+
+    // Null, blank and unknown names are all rejected as an invalid status
+    private static UserStatus parseUserStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (UserStatus status : UserStatus.values()) {
+            if (status.name().equalsIgnoreCase(value.trim())) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Create patient accounts from a CSV (first_name, last_name, email, password; optional phone, roles, status)
+     */
+    @PostMapping("/users/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> provisionUsers(@RequestParam("file") MultipartFile file,
+                                            @CurrentUser AuthenticatedUser currentUser) {
+        try {
+            Long adminId = currentUser.getUserId();
+
+            if (file.isEmpty()) {
+                return ResponseEntity.badRequest().body("File is required");
+            }
+
+            if (!"text/csv".equals(file.getContentType()) &&
+                (file.getOriginalFilename() == null || !file.getOriginalFilename().endsWith(".csv"))) {
+                return ResponseEntity.badRequest().body("Only CSV files are allowed");
+            }
+
+            if (file.getSize() > 5 * 1024 * 1024) { // 5MB limit
+                return ResponseEntity.badRequest().body("File size too large. Maximum 5MB allowed.");
+            }
+
+            BulkUserProvisioningResponse response = provisioningService.provision(file.getInputStream(), adminId);
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to provision users: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Account maintenance run history, newest first, optionally for one job
+     */
+    @GetMapping("/maintenance/runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getMaintenanceRuns(@RequestParam(required = false) String job,
+                                                @RequestParam(defaultValue = "0") int page,
+                                                @RequestParam(defaultValue = "20") int size) {
+        try {
+            Page<MaintenanceJobRun> runs = maintenanceService.getRuns(job, PageRequest.of(page, size));
+            return ResponseEntity.ok(runs);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to get maintenance runs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Run an account maintenance job now (unlock-expired-accounts or stale-pending-accounts)
+     */
+    @PostMapping("/maintenance/{job}/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> runMaintenanceJob(@PathVariable String job, @CurrentUser AuthenticatedUser currentUser) {
+        try {
+            Long adminId = currentUser.getUserId();
+
+            MaintenanceJobRun run = maintenanceService.runNow(job, adminId);
+            return ResponseEntity.ok(run);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to run maintenance job: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Second-level cache hit/miss counters and statements per session
+     */
+    @GetMapping("/cache/statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getCacheStatistics() {
+        try {
+            CacheStatisticsResponse statistics = entityCacheService.getStatistics();
+            return ResponseEntity.ok(statistics);
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to get cache statistics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drop every second-level cache region
+     */
+    @DeleteMapping("/cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> evictCaches() {
+        try {
+            entityCacheService.evictAll();
+            return ResponseEntity.ok(Map.of("success", true, "message", "All cache regions evicted"));
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", "Error evicting caches: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Request bulkhead connection budget, limits and current occupancy per endpoint class
+     */
+    @GetMapping("/bulkheads")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getBulkheads() {
+        try {
+            return ResponseEntity.ok(bulkheadFilter.getSnapshot());
+
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Failed to get bulkhead status: " + e.getMessage());
+        }
+    }
 }
@@ -1,67 +1,87 @@
 package com.mindcare.connect.controller;
 
+import com.mindcare.connect.config.AuthenticatedUser;
+import com.mindcare.connect.config.CurrentUser;
 import com.mindcare.connect.dto.AuthResponse;
 import com.mindcare.connect.dto.LoginRequest;
 import com.mindcare.connect.dto.RegisterRequest;
-import com.mindcare.connect.service.UserService;
+import com.mindcare.connect.service.AuthenticationService;
+import com.mindcare.connect.service.PasswordHashingService.HashingCapacityExceededException;
+import com.mindcare.connect.service.TokenRevocationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/auth")
 @CrossOrigin(origins = {"http://localhost:3000", "https://mind-care-zeta.vercel.app"})
 public class AuthController {
     
-    private final UserService userService;
+    private final AuthenticationService authenticationService;
+    private final TokenRevocationService revocationService;
     
-    public AuthController(UserService userService) {
-        this.userService = userService;
+    public AuthController(AuthenticationService authenticationService, TokenRevocationService revocationService) {
+        this.authenticationService = authenticationService;
+        this.revocationService = revocationService;
     }
     
+    /**
+     * Registration completes asynchronously: the request thread is released while the password is hashed
+     */
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> registerUser(@Valid @RequestBody RegisterRequest registerRequest) {
+    public CompletableFuture<ResponseEntity<AuthResponse>> registerUser(@Valid @RequestBody RegisterRequest registerRequest) {
         try {
-            AuthResponse response = userService.registerUser(registerRequest);
-            
-            if (response.isSuccess()) {
-                return ResponseEntity.status(HttpStatus.CREATED).body(response);
-            } else {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-            }
+            return authenticationService.register(registerRequest)
+                    .thenApply(response -> response.isSuccess()
+                            ? ResponseEntity.status(HttpStatus.CREATED).body(response)
+                            : ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response))
+                    .exceptionally(e -> failure(e, "Registration failed: "));
             
         } catch (Exception e) {
-            AuthResponse errorResponse = AuthResponse.error("Registration failed: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return CompletableFuture.completedFuture(failure(e, "Registration failed: "));
         }
     }
     
+    /**
+     * Login completes asynchronously: the request thread is released while the password is verified
+     */
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<AuthResponse>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest,
+                                                                            HttpServletRequest httpRequest) {
         try {
-            AuthResponse response = userService.authenticateUser(loginRequest);
-            
-            if (response.isSuccess()) {
-                return ResponseEntity.ok(response);
-            } else {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-            }
+            return authenticationService.login(loginRequest, httpRequest.getRemoteAddr())
+                    .thenApply(response -> response.isSuccess()
+                            ? ResponseEntity.ok(response)
+                            : ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response))
+                    .exceptionally(e -> failure(e, "Authentication failed: "));
             
         } catch (Exception e) {
-            AuthResponse errorResponse = AuthResponse.error("Authentication failed: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return CompletableFuture.completedFuture(failure(e, "Authentication failed: "));
         }
     }
     
+    /**
+     * Revoke the presented token on the server until it would have expired
+     */
     @PostMapping("/logout")
-    public ResponseEntity<String> logoutUser() {
-        // With JWT, logout is handled on the client side by removing the token
-        // For additional security, you could implement a token blacklist
-        return ResponseEntity.ok("Logged out successfully");
+    public ResponseEntity<String> logoutUser(@CurrentUser(required = false) AuthenticatedUser user) {
+        try {
+            if (user != null) {
+                revocationService.revoke(user.getTokenId(), user.getUserId(), user.getExpiresAt());
+            }
+            return ResponseEntity.ok("Logged out successfully");
+            
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Logout failed: " + e.getMessage());
+        }
     }
     
     @GetMapping("/validate")
@@ -100,4 +120,18 @@ public class AuthController {
         
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * 503 with Retry-After when the hashing pool is saturated, 500 for anything else
+     */
+    private ResponseEntity<AuthResponse> failure(Throwable e, String messagePrefix) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof HashingCapacityExceededException busy) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(busy.getRetryAfterSeconds()))
+                    .body(AuthResponse.error(busy.getMessage()));
+        }
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(AuthResponse.error(messagePrefix + cause.getMessage()));
+    }
 }
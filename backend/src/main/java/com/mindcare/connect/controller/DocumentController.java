@@ -1,5 +1,7 @@
 package com.mindcare.connect.controller;
 
+import com.mindcare.connect.config.AuthenticatedUser;
+import com.mindcare.connect.config.CurrentUser;
 import com.mindcare.connect.service.DocumentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
@@ -36,10 +38,10 @@ public class DocumentController {
     @PostMapping("/upload")
     @PreAuthorize("hasRole('PATIENT') or hasRole('PROFESSIONAL')")
     public ResponseEntity<?> uploadDocument(@RequestParam("file") MultipartFile file,
-                                            @RequestParam("documentType") String documentType) {
+                                            @RequestParam("documentType") String documentType,
+                                            @CurrentUser AuthenticatedUser currentUser) {
         try {
-            // For now, use a default user ID - can be enhanced later with JWT extraction
-            Long userId = 1L; // Simplified for now
+            Long userId = currentUser.getUserId();
 
             // Validate document type
             if (!isValidDocumentType(documentType)) {
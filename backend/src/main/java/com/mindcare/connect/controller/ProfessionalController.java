@@ -1,15 +1,17 @@
 package com.mindcare.connect.controller;
 
+import com.mindcare.connect.config.AuthenticatedUser;
+import com.mindcare.connect.config.CurrentUser;
 import com.mindcare.connect.dto.ProfessionalVerificationRequest;
 import com.mindcare.connect.dto.ProfessionalVerificationResponse;
 import com.mindcare.connect.service.ProfessionalVerificationService;
-import com.mindcare.connect.service.JwtService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.Optional;
 
@@ -21,14 +23,13 @@ import java.util.Optional;
 @RequestMapping("/professional")
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"}, allowCredentials = "true")
 public class ProfessionalController {
+    private static final Logger log = LoggerFactory.getLogger(ProfessionalController.class);
 
     private final ProfessionalVerificationService verificationService;
-    private final JwtService jwtService;
 
     @Autowired
-    public ProfessionalController(ProfessionalVerificationService verificationService, JwtService jwtService) {
+    public ProfessionalController(ProfessionalVerificationService verificationService) {
         this.verificationService = verificationService;
-        this.jwtService = jwtService;
     }
 
     /**
@@ -38,13 +39,9 @@ public class ProfessionalController {
     @PostMapping("/verification/apply")
     @PreAuthorize("hasRole('PATIENT') or hasRole('PROFESSIONAL')")
     public ResponseEntity<?> applyForVerification(@RequestBody ProfessionalVerificationRequest request,
-                                                  HttpServletRequest httpRequest) {
+                                                  @CurrentUser AuthenticatedUser currentUser) {
         try {
-            // Extract user ID from JWT token
-            Long userId = extractUserIdFromRequest(httpRequest);
-            if (userId == null) {
-                return ResponseEntity.status(401).body("Unauthorized: Invalid token");
-            }
+            Long userId = currentUser.getUserId();
 
             // Custom validation based on professional type
             String validationError = request.getValidationError();
@@ -65,35 +62,24 @@ public class ProfessionalController {
      */
     @GetMapping("/verification/status")
     @PreAuthorize("hasRole('PATIENT') or hasRole('PROFESSIONAL')")
-    public ResponseEntity<?> getVerificationStatus(HttpServletRequest httpRequest) {
+    public ResponseEntity<?> getVerificationStatus(@CurrentUser AuthenticatedUser currentUser) {
         try {
-            System.out.println("=== DEBUG: Getting verification status ===");
-            String authHeader = httpRequest.getHeader("Authorization");
-            System.out.println("Authorization header present: " + (authHeader != null));
-            
-            Long userId = extractUserIdFromRequest(httpRequest);
-            System.out.println("Extracted userId: " + userId);
-            
-            if (userId == null) {
-                System.err.println("Failed to extract userId from token");
-                return ResponseEntity.status(401).body("Unauthorized: Invalid token");
-            }
+            Long userId = currentUser.getUserId();
 
             Optional<ProfessionalVerificationResponse> status = verificationService.getApplicationStatus(userId);
-            System.out.println("Application status found: " + status.isPresent());
-            
+            log.debug("Verification application found: {}", status.isPresent());
+
             if (status.isPresent()) {
-                System.out.println("Returning application: " + status.get().getCorrelationId());
+                log.debug("Returning verification application {}", status.get().getCorrelationId());
                 return ResponseEntity.ok(status.get());
             } else {
-                System.out.println("No verification application found for userId: " + userId);
+                log.debug("No verification application found");
                 // Return null instead of string to make frontend handle it properly
                 return ResponseEntity.ok().body(null);
             }
 
         } catch (Exception e) {
-            System.err.println("Error in getVerificationStatus: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to get verification status", e);
             return ResponseEntity.badRequest().body("Failed to get status: " + e.getMessage());
         }
     }
@@ -104,12 +90,9 @@ public class ProfessionalController {
     @GetMapping("/verification/track/{correlationId}")
     @PreAuthorize("hasRole('PATIENT') or hasRole('PROFESSIONAL')")
     public ResponseEntity<?> trackApplication(@PathVariable String correlationId,
-                                              HttpServletRequest httpRequest) {
+                                              @CurrentUser AuthenticatedUser currentUser) {
         try {
-            Long userId = extractUserIdFromRequest(httpRequest);
-            if (userId == null) {
-                return ResponseEntity.status(401).body("Unauthorized: Invalid token");
-            }
+            Long userId = currentUser.getUserId();
 
             // Get user's application and verify correlation ID matches
             Optional<ProfessionalVerificationResponse> application = verificationService.getApplicationStatus(userId);
@@ -123,27 +106,4 @@ public class ProfessionalController {
             return ResponseEntity.badRequest().body("Failed to track application: " + e.getMessage());
         }
     }
-
-    /**
-     * Helper method to extract user ID from JWT token
-     */
-    private Long extractUserIdFromRequest(HttpServletRequest request) {
-        try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-                String email = jwtService.extractUsername(token);
-                
-                // Extract userId from token claims - handle both Integer and Long types
-                Object userIdClaim = jwtService.extractClaim(token, claims -> claims.get("userId"));
-                if (userIdClaim instanceof Number) {
-                    return ((Number) userIdClaim).longValue();
-                }
-            }
-            return null;
-        } catch (Exception e) {
-            System.err.println("Error extracting user ID from token: " + e.getMessage());
-            return null;
-        }
-    }
 }
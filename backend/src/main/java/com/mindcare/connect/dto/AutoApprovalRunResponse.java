@@ -0,0 +1,117 @@
+package com.mindcare.connect.dto;
+
+import com.mindcare.connect.entity.AutoApprovalAudit;
+import com.mindcare.connect.entity.ProfessionalType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AutoApprovalRunResponse {
+
+    private String runId;
+    private boolean dryRun;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int evaluated;
+    private int approved;
+    private int wouldApprove;
+    private int skipped;
+    private int failed;
+    private List<ItemResult> results = new ArrayList<>();
+
+    // Constructors
+    public AutoApprovalRunResponse() {}
+
+    public AutoApprovalRunResponse(String runId, boolean dryRun) {
+        this.runId = runId;
+        this.dryRun = dryRun;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getRunId() { return runId; }
+    public void setRunId(String runId) { this.runId = runId; }
+
+    public boolean isDryRun() { return dryRun; }
+    public void setDryRun(boolean dryRun) { this.dryRun = dryRun; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    public int getEvaluated() { return evaluated; }
+    public void setEvaluated(int evaluated) { this.evaluated = evaluated; }
+
+    public int getApproved() { return approved; }
+    public void setApproved(int approved) { this.approved = approved; }
+
+    public int getWouldApprove() { return wouldApprove; }
+    public void setWouldApprove(int wouldApprove) { this.wouldApprove = wouldApprove; }
+
+    public int getSkipped() { return skipped; }
+    public void setSkipped(int skipped) { this.skipped = skipped; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<ItemResult> getResults() { return results; }
+    public void setResults(List<ItemResult> results) { this.results = results; }
+
+    // Utility methods
+    public void recordSkipped() {
+        evaluated++;
+        skipped++;
+    }
+
+    public void addResult(ItemResult result) {
+        evaluated++;
+        results.add(result);
+        switch (result.getOutcome()) {
+            case APPROVED:
+                approved++;
+                break;
+            case WOULD_APPROVE:
+                wouldApprove++;
+                break;
+            default:
+                failed++;
+        }
+    }
+
+    public static class ItemResult {
+        private Long verificationId;
+        private ProfessionalType professionalType;
+        private Double confidence;
+        private AutoApprovalAudit.Outcome outcome;
+        private String message;
+
+        public ItemResult() {}
+
+        public ItemResult(Long verificationId, ProfessionalType professionalType, Double confidence,
+                          AutoApprovalAudit.Outcome outcome, String message) {
+            this.verificationId = verificationId;
+            this.professionalType = professionalType;
+            this.confidence = confidence;
+            this.outcome = outcome;
+            this.message = message;
+        }
+
+        public Long getVerificationId() { return verificationId; }
+        public void setVerificationId(Long verificationId) { this.verificationId = verificationId; }
+
+        public ProfessionalType getProfessionalType() { return professionalType; }
+        public void setProfessionalType(ProfessionalType professionalType) { this.professionalType = professionalType; }
+
+        public Double getConfidence() { return confidence; }
+        public void setConfidence(Double confidence) { this.confidence = confidence; }
+
+        public AutoApprovalAudit.Outcome getOutcome() { return outcome; }
+        public void setOutcome(AutoApprovalAudit.Outcome outcome) { this.outcome = outcome; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
@@ -0,0 +1,99 @@
+package com.mindcare.connect.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkUserProvisioningResponse {
+
+    public enum Outcome {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    private int rows;
+    private int created;
+    private int duplicates;
+    private int invalid;
+    private int failed;
+    private long durationMs;
+    private boolean truncated;
+    private List<RowResult> results = new ArrayList<>();
+
+    // Constructors
+    public BulkUserProvisioningResponse() {}
+
+    // Getters and Setters
+    public int getRows() { return rows; }
+    public void setRows(int rows) { this.rows = rows; }
+
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+
+    public int getDuplicates() { return duplicates; }
+    public void setDuplicates(int duplicates) { this.duplicates = duplicates; }
+
+    public int getInvalid() { return invalid; }
+    public void setInvalid(int invalid) { this.invalid = invalid; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+
+    public boolean isTruncated() { return truncated; }
+    public void setTruncated(boolean truncated) { this.truncated = truncated; }
+
+    public List<RowResult> getResults() { return results; }
+    public void setResults(List<RowResult> results) { this.results = results; }
+
+    // Utility methods
+    public void addResult(RowResult result) {
+        results.add(result);
+        rows++;
+        switch (result.getOutcome()) {
+            case CREATED:
+                created++;
+                break;
+            case DUPLICATE:
+                duplicates++;
+                break;
+            case INVALID:
+                invalid++;
+                break;
+            default:
+                failed++;
+        }
+    }
+
+    // Inner class for the outcome of a single CSV row
+    public static class RowResult {
+        private int line;
+        private String email;
+        private Outcome outcome;
+        private String message;
+
+        public RowResult() {}
+
+        public RowResult(int line, String email, Outcome outcome, String message) {
+            this.line = line;
+            this.email = email;
+            this.outcome = outcome;
+            this.message = message;
+        }
+
+        public int getLine() { return line; }
+        public void setLine(int line) { this.line = line; }
+
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+
+        public Outcome getOutcome() { return outcome; }
+        public void setOutcome(Outcome outcome) { this.outcome = outcome; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
@@ -0,0 +1,63 @@
+package com.mindcare.connect.dto;
+
+import com.mindcare.connect.entity.ProfessionalType;
+import com.mindcare.connect.entity.VerificationStatus;
+
+import java.util.List;
+
+/**
+ * Bulk approve/reject request. Targets either an explicit list of ids or every
+ * application matching the filter (status, minimum AI confidence, professional type).
+ */
+public class BulkVerificationRequest {
+
+    public enum Action {
+        APPROVE,
+        REJECT
+    }
+
+    private Action action;
+    private List<Long> ids;
+
+    // Filter, used when no ids are given
+    private VerificationStatus status = VerificationStatus.PENDING;
+    private Double minConfidence;
+    private ProfessionalType professionalType;
+    private Integer limit;
+
+    private String reason;
+    private String notes;
+
+    // Default constructor
+    public BulkVerificationRequest() {}
+
+    // Getters and Setters
+    public Action getAction() { return action; }
+    public void setAction(Action action) { this.action = action; }
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public VerificationStatus getStatus() { return status; }
+    public void setStatus(VerificationStatus status) { this.status = status; }
+
+    public Double getMinConfidence() { return minConfidence; }
+    public void setMinConfidence(Double minConfidence) { this.minConfidence = minConfidence; }
+
+    public ProfessionalType getProfessionalType() { return professionalType; }
+    public void setProfessionalType(ProfessionalType professionalType) { this.professionalType = professionalType; }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+
+    // Utility methods
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+}
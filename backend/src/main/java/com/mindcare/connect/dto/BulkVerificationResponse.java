@@ -0,0 +1,104 @@
+package com.mindcare.connect.dto;
+
+import com.mindcare.connect.entity.VerificationStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkVerificationResponse {
+
+    public enum Outcome {
+        APPLIED,
+        SKIPPED,
+        NOT_FOUND,
+        FAILED
+    }
+
+    private BulkVerificationRequest.Action action;
+    private int requested;
+    private int applied;
+    private int skipped;
+    private int failed;
+    private List<ItemResult> results = new ArrayList<>();
+
+    // Constructors
+    public BulkVerificationResponse() {}
+
+    public BulkVerificationResponse(BulkVerificationRequest.Action action) {
+        this.action = action;
+    }
+
+    // Getters and Setters
+    public BulkVerificationRequest.Action getAction() { return action; }
+    public void setAction(BulkVerificationRequest.Action action) { this.action = action; }
+
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+
+    public int getApplied() { return applied; }
+    public void setApplied(int applied) { this.applied = applied; }
+
+    public int getSkipped() { return skipped; }
+    public void setSkipped(int skipped) { this.skipped = skipped; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<ItemResult> getResults() { return results; }
+    public void setResults(List<ItemResult> results) { this.results = results; }
+
+    // Utility methods
+    public void addResult(ItemResult result) {
+        results.add(result);
+        switch (result.getOutcome()) {
+            case APPLIED:
+                applied++;
+                break;
+            case FAILED:
+                failed++;
+                break;
+            default:
+                skipped++;
+        }
+    }
+
+    // Inner class for the outcome of a single application
+    public static class ItemResult {
+        private Long verificationId;
+        private Long userId;
+        private VerificationStatus previousStatus;
+        private VerificationStatus newStatus;
+        private Outcome outcome;
+        private String message;
+
+        public ItemResult() {}
+
+        public ItemResult(Long verificationId, Long userId, VerificationStatus previousStatus,
+                          VerificationStatus newStatus, Outcome outcome, String message) {
+            this.verificationId = verificationId;
+            this.userId = userId;
+            this.previousStatus = previousStatus;
+            this.newStatus = newStatus;
+            this.outcome = outcome;
+            this.message = message;
+        }
+
+        public Long getVerificationId() { return verificationId; }
+        public void setVerificationId(Long verificationId) { this.verificationId = verificationId; }
+
+        public Long getUserId() { return userId; }
+        public void setUserId(Long userId) { this.userId = userId; }
+
+        public VerificationStatus getPreviousStatus() { return previousStatus; }
+        public void setPreviousStatus(VerificationStatus previousStatus) { this.previousStatus = previousStatus; }
+
+        public VerificationStatus getNewStatus() { return newStatus; }
+        public void setNewStatus(VerificationStatus newStatus) { this.newStatus = newStatus; }
+
+        public Outcome getOutcome() { return outcome; }
+        public void setOutcome(Outcome outcome) { this.outcome = outcome; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
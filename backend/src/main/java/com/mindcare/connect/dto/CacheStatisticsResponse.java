@@ -0,0 +1,90 @@
+package com.mindcare.connect.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CacheStatisticsResponse {
+
+    private long secondLevelCacheHits;
+    private long secondLevelCacheMisses;
+    private long secondLevelCachePuts;
+    private long queryCacheHits;
+    private long queryCacheMisses;
+    private long queryCachePuts;
+    private long queryExecutions;
+    private long preparedStatements;
+    private long sessionsOpened;
+    private double statementsPerSession;
+    private List<Region> regions = new ArrayList<>();
+
+    // Default constructor
+    public CacheStatisticsResponse() {}
+
+    // Getters and Setters
+    public long getSecondLevelCacheHits() { return secondLevelCacheHits; }
+    public void setSecondLevelCacheHits(long secondLevelCacheHits) { this.secondLevelCacheHits = secondLevelCacheHits; }
+
+    public long getSecondLevelCacheMisses() { return secondLevelCacheMisses; }
+    public void setSecondLevelCacheMisses(long secondLevelCacheMisses) { this.secondLevelCacheMisses = secondLevelCacheMisses; }
+
+    public long getSecondLevelCachePuts() { return secondLevelCachePuts; }
+    public void setSecondLevelCachePuts(long secondLevelCachePuts) { this.secondLevelCachePuts = secondLevelCachePuts; }
+
+    public long getQueryCacheHits() { return queryCacheHits; }
+    public void setQueryCacheHits(long queryCacheHits) { this.queryCacheHits = queryCacheHits; }
+
+    public long getQueryCacheMisses() { return queryCacheMisses; }
+    public void setQueryCacheMisses(long queryCacheMisses) { this.queryCacheMisses = queryCacheMisses; }
+
+    public long getQueryCachePuts() { return queryCachePuts; }
+    public void setQueryCachePuts(long queryCachePuts) { this.queryCachePuts = queryCachePuts; }
+
+    public long getQueryExecutions() { return queryExecutions; }
+    public void setQueryExecutions(long queryExecutions) { this.queryExecutions = queryExecutions; }
+
+    public long getPreparedStatements() { return preparedStatements; }
+    public void setPreparedStatements(long preparedStatements) { this.preparedStatements = preparedStatements; }
+
+    public long getSessionsOpened() { return sessionsOpened; }
+    public void setSessionsOpened(long sessionsOpened) { this.sessionsOpened = sessionsOpened; }
+
+    public double getStatementsPerSession() { return statementsPerSession; }
+    public void setStatementsPerSession(double statementsPerSession) { this.statementsPerSession = statementsPerSession; }
+
+    public List<Region> getRegions() { return regions; }
+    public void setRegions(List<Region> regions) { this.regions = regions; }
+
+    // Inner class for a single cache region
+    public static class Region {
+        private String name;
+        private long hits;
+        private long misses;
+        private long puts;
+        private long elementsInMemory;
+
+        public Region() {}
+
+        public Region(String name, long hits, long misses, long puts, long elementsInMemory) {
+            this.name = name;
+            this.hits = hits;
+            this.misses = misses;
+            this.puts = puts;
+            this.elementsInMemory = elementsInMemory;
+        }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public long getHits() { return hits; }
+        public void setHits(long hits) { this.hits = hits; }
+
+        public long getMisses() { return misses; }
+        public void setMisses(long misses) { this.misses = misses; }
+
+        public long getPuts() { return puts; }
+        public void setPuts(long puts) { this.puts = puts; }
+
+        public long getElementsInMemory() { return elementsInMemory; }
+        public void setElementsInMemory(long elementsInMemory) { this.elementsInMemory = elementsInMemory; }
+    }
+}
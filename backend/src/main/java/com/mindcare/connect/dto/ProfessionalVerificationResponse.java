@@ -1,6 +1,8 @@
 package com.mindcare.connect.dto;
 
+import com.mindcare.connect.entity.ArchiveReason;
 import com.mindcare.connect.entity.ProfessionalType;
+import com.mindcare.connect.entity.ReviewPriority;
 import com.mindcare.connect.entity.VerificationStatus;
 
 import java.time.LocalDateTime;
@@ -41,6 +43,15 @@ public class ProfessionalVerificationResponse {
     private String aiMatchDetails;
     private LocalDateTime aiProcessedAt;
 
+    // Review queue
+    private ReviewPriority reviewPriority;
+    private Long leasedByAdminId;
+    private LocalDateTime leaseExpiresAt;
+
+    // Archive (set only for applications read from the history table)
+    private LocalDateTime archivedAt;
+    private ArchiveReason archiveReason;
+
     // Constructors
     public ProfessionalVerificationResponse() {}
 
@@ -148,6 +159,22 @@ public class ProfessionalVerificationResponse {
     public LocalDateTime getAiProcessedAt() { return aiProcessedAt; }
     public void setAiProcessedAt(LocalDateTime aiProcessedAt) { this.aiProcessedAt = aiProcessedAt; }
 
+    // Review queue getters and setters
+    public ReviewPriority getReviewPriority() { return reviewPriority; }
+    public void setReviewPriority(ReviewPriority reviewPriority) { this.reviewPriority = reviewPriority; }
+
+    public Long getLeasedByAdminId() { return leasedByAdminId; }
+    public void setLeasedByAdminId(Long leasedByAdminId) { this.leasedByAdminId = leasedByAdminId; }
+
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) { this.leaseExpiresAt = leaseExpiresAt; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+    public void setArchivedAt(LocalDateTime archivedAt) { this.archivedAt = archivedAt; }
+
+    public ArchiveReason getArchiveReason() { return archiveReason; }
+    public void setArchiveReason(ArchiveReason archiveReason) { this.archiveReason = archiveReason; }
+
     // Utility methods
     public String getStatusDisplayName() {
         return status != null ? status.getDisplayName() : "Unknown";
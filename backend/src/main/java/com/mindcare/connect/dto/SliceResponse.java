@@ -0,0 +1,51 @@
+package com.mindcare.connect.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal list envelope for the compact admin view: no COUNT query, just "has next".
+ * total is only filled when it can be read from the maintained status counters.
+ */
+public class SliceResponse<T> {
+
+    private List<T> content = new ArrayList<>();
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long total;
+
+    // Constructors
+    public SliceResponse() {}
+
+    public SliceResponse(List<T> content, int page, int size, boolean hasNext, Long total) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.total = total;
+    }
+
+    // Static factory method
+    public static <T> SliceResponse<T> of(Slice<T> slice, Long total) {
+        return new SliceResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), total);
+    }
+
+    // Getters and Setters
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public Long getTotal() { return total; }
+    public void setTotal(Long total) { this.total = total; }
+}
@@ -0,0 +1,92 @@
+package com.mindcare.connect.dto;
+
+import com.mindcare.connect.entity.ProfessionalType;
+import com.mindcare.connect.entity.RollupGranularity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class VerificationActivityResponse {
+
+    private RollupGranularity granularity;
+    private LocalDate from;
+    private LocalDate to;
+    private ProfessionalType professionalType;
+    private List<Bucket> buckets = new ArrayList<>();
+    private long totalSubmitted;
+    private long totalApproved;
+    private long totalRejected;
+    private Double averageDecisionHours;
+    private Map<String, Long> confidenceDistribution = new LinkedHashMap<>();
+
+    // Default constructor
+    public VerificationActivityResponse() {}
+
+    // Getters and Setters
+    public RollupGranularity getGranularity() { return granularity; }
+    public void setGranularity(RollupGranularity granularity) { this.granularity = granularity; }
+
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public ProfessionalType getProfessionalType() { return professionalType; }
+    public void setProfessionalType(ProfessionalType professionalType) { this.professionalType = professionalType; }
+
+    public List<Bucket> getBuckets() { return buckets; }
+    public void setBuckets(List<Bucket> buckets) { this.buckets = buckets; }
+
+    public long getTotalSubmitted() { return totalSubmitted; }
+    public void setTotalSubmitted(long totalSubmitted) { this.totalSubmitted = totalSubmitted; }
+
+    public long getTotalApproved() { return totalApproved; }
+    public void setTotalApproved(long totalApproved) { this.totalApproved = totalApproved; }
+
+    public long getTotalRejected() { return totalRejected; }
+    public void setTotalRejected(long totalRejected) { this.totalRejected = totalRejected; }
+
+    public Double getAverageDecisionHours() { return averageDecisionHours; }
+    public void setAverageDecisionHours(Double averageDecisionHours) { this.averageDecisionHours = averageDecisionHours; }
+
+    public Map<String, Long> getConfidenceDistribution() { return confidenceDistribution; }
+    public void setConfidenceDistribution(Map<String, Long> confidenceDistribution) { this.confidenceDistribution = confidenceDistribution; }
+
+    // Inner class for a single time bucket
+    public static class Bucket {
+        private LocalDate bucketStart;
+        private long submitted;
+        private long approved;
+        private long rejected;
+        private Double averageDecisionHours;
+
+        public Bucket() {}
+
+        public Bucket(LocalDate bucketStart, long submitted, long approved, long rejected, Double averageDecisionHours) {
+            this.bucketStart = bucketStart;
+            this.submitted = submitted;
+            this.approved = approved;
+            this.rejected = rejected;
+            this.averageDecisionHours = averageDecisionHours;
+        }
+
+        public LocalDate getBucketStart() { return bucketStart; }
+        public void setBucketStart(LocalDate bucketStart) { this.bucketStart = bucketStart; }
+
+        public long getSubmitted() { return submitted; }
+        public void setSubmitted(long submitted) { this.submitted = submitted; }
+
+        public long getApproved() { return approved; }
+        public void setApproved(long approved) { this.approved = approved; }
+
+        public long getRejected() { return rejected; }
+        public void setRejected(long rejected) { this.rejected = rejected; }
+
+        public Double getAverageDecisionHours() { return averageDecisionHours; }
+        public void setAverageDecisionHours(Double averageDecisionHours) { this.averageDecisionHours = averageDecisionHours; }
+    }
+}
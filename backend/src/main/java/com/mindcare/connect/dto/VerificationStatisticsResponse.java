@@ -0,0 +1,38 @@
+package com.mindcare.connect.dto;
+
+import com.mindcare.connect.entity.VerificationStatus;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class VerificationStatisticsResponse {
+
+    private Map<VerificationStatus, Long> counts = new EnumMap<>(VerificationStatus.class);
+    private long total;
+    private LocalDateTime lastReconciledAt;
+
+    // Constructors
+    public VerificationStatisticsResponse() {}
+
+    public VerificationStatisticsResponse(Map<VerificationStatus, Long> counts, LocalDateTime lastReconciledAt) {
+        this.counts = counts;
+        this.total = counts.values().stream().mapToLong(Long::longValue).sum();
+        this.lastReconciledAt = lastReconciledAt;
+    }
+
+    // Getters and Setters
+    public Map<VerificationStatus, Long> getCounts() { return counts; }
+    public void setCounts(Map<VerificationStatus, Long> counts) { this.counts = counts; }
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public LocalDateTime getLastReconciledAt() { return lastReconciledAt; }
+    public void setLastReconciledAt(LocalDateTime lastReconciledAt) { this.lastReconciledAt = lastReconciledAt; }
+
+    // Utility methods
+    public long getCount(VerificationStatus status) {
+        return counts.getOrDefault(status, 0L);
+    }
+}
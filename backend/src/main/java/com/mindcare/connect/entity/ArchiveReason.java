@@ -0,0 +1,16 @@
+package com.mindcare.connect.entity;
+
+public enum ArchiveReason {
+    SUPERSEDED("Replaced by a new application from the same user"),
+    RETENTION("Decided application moved out of the live table after the retention window");
+
+    private final String description;
+
+    ArchiveReason(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,120 @@
+package com.mindcare.connect.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One auto-approval decision (or dry-run finding) with the evidence it was based on.
+ */
+@Entity
+@Table(name = "auto_approval_audits", indexes = {
+    @Index(name = "idx_auto_approval_audits_evaluated_at", columnList = "evaluated_at"),
+    @Index(name = "idx_auto_approval_audits_verification", columnList = "verification_id")
+})
+public class AutoApprovalAudit {
+
+    public enum Outcome {
+        APPROVED,
+        WOULD_APPROVE,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false, length = 64)
+    private String runId;
+
+    @Column(name = "verification_id", nullable = false)
+    private Long verificationId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "professional_type", nullable = false)
+    private ProfessionalType professionalType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome", nullable = false, length = 32)
+    private Outcome outcome;
+
+    @Column(name = "dry_run", nullable = false)
+    private boolean dryRun;
+
+    @Column(name = "confidence")
+    private Double confidence;
+
+    @Column(name = "threshold", nullable = false)
+    private double threshold;
+
+    @Column(name = "reference_professional_id")
+    private Long referenceProfessionalId;
+
+    @Column(name = "match_details", columnDefinition = "TEXT")
+    private String matchDetails;
+
+    @Column(name = "triggered_by_admin_id")
+    private Long triggeredByAdminId;
+
+    @Column(name = "evaluated_at", nullable = false)
+    private LocalDateTime evaluatedAt;
+
+    // Constructors
+    public AutoApprovalAudit() {}
+
+    public AutoApprovalAudit(String runId, ProfessionalVerification verification, Outcome outcome, boolean dryRun,
+                             double threshold, Long triggeredByAdminId) {
+        this.runId = runId;
+        this.verificationId = verification.getId();
+        this.userId = verification.getUser() != null ? verification.getUser().getId() : null;
+        this.professionalType = verification.getProfessionalType();
+        this.outcome = outcome;
+        this.dryRun = dryRun;
+        this.threshold = threshold;
+        this.triggeredByAdminId = triggeredByAdminId;
+        this.evaluatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getRunId() { return runId; }
+    public void setRunId(String runId) { this.runId = runId; }
+
+    public Long getVerificationId() { return verificationId; }
+    public void setVerificationId(Long verificationId) { this.verificationId = verificationId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public ProfessionalType getProfessionalType() { return professionalType; }
+    public void setProfessionalType(ProfessionalType professionalType) { this.professionalType = professionalType; }
+
+    public Outcome getOutcome() { return outcome; }
+    public void setOutcome(Outcome outcome) { this.outcome = outcome; }
+
+    public boolean isDryRun() { return dryRun; }
+    public void setDryRun(boolean dryRun) { this.dryRun = dryRun; }
+
+    public Double getConfidence() { return confidence; }
+    public void setConfidence(Double confidence) { this.confidence = confidence; }
+
+    public double getThreshold() { return threshold; }
+    public void setThreshold(double threshold) { this.threshold = threshold; }
+
+    public Long getReferenceProfessionalId() { return referenceProfessionalId; }
+    public void setReferenceProfessionalId(Long referenceProfessionalId) { this.referenceProfessionalId = referenceProfessionalId; }
+
+    public String getMatchDetails() { return matchDetails; }
+    public void setMatchDetails(String matchDetails) { this.matchDetails = matchDetails; }
+
+    public Long getTriggeredByAdminId() { return triggeredByAdminId; }
+    public void setTriggeredByAdminId(Long triggeredByAdminId) { this.triggeredByAdminId = triggeredByAdminId; }
+
+    public LocalDateTime getEvaluatedAt() { return evaluatedAt; }
+    public void setEvaluatedAt(LocalDateTime evaluatedAt) { this.evaluatedAt = evaluatedAt; }
+}
@@ -0,0 +1,82 @@
+package com.mindcare.connect.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Admin-configured auto-approval rule for one professional type.
+ * Disabled by default; while dryRun is set, qualifying applications are only audited.
+ */
+@Entity
+@Table(name = "auto_approval_policies")
+public class AutoApprovalPolicy {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "professional_type", length = 32)
+    private ProfessionalType professionalType;
+
+    @Column(name = "enabled", nullable = false)
+    private boolean enabled = false;
+
+    @Column(name = "dry_run", nullable = false)
+    private boolean dryRun = true;
+
+    // Minimum re-evaluated AI confidence required for approval
+    @Column(name = "min_confidence", nullable = false)
+    private double minConfidence = 1.0;
+
+    // Only approve when the confidence is backed by a concrete reference list entry
+    @Column(name = "require_reference_match", nullable = false)
+    private boolean requireReferenceMatch = true;
+
+    // Upper bound on approvals per batch run
+    @Column(name = "max_per_run", nullable = false)
+    private int maxPerRun = 50;
+
+    @Column(name = "updated_by_admin_id")
+    private Long updatedByAdminId;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public AutoApprovalPolicy() {}
+
+    public AutoApprovalPolicy(ProfessionalType professionalType) {
+        this.professionalType = professionalType;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public ProfessionalType getProfessionalType() { return professionalType; }
+    public void setProfessionalType(ProfessionalType professionalType) { this.professionalType = professionalType; }
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public boolean isDryRun() { return dryRun; }
+    public void setDryRun(boolean dryRun) { this.dryRun = dryRun; }
+
+    public double getMinConfidence() { return minConfidence; }
+    public void setMinConfidence(double minConfidence) { this.minConfidence = minConfidence; }
+
+    public boolean isRequireReferenceMatch() { return requireReferenceMatch; }
+    public void setRequireReferenceMatch(boolean requireReferenceMatch) { this.requireReferenceMatch = requireReferenceMatch; }
+
+    public int getMaxPerRun() { return maxPerRun; }
+    public void setMaxPerRun(int maxPerRun) { this.maxPerRun = maxPerRun; }
+
+    public Long getUpdatedByAdminId() { return updatedByAdminId; }
+    public void setUpdatedByAdminId(Long updatedByAdminId) { this.updatedByAdminId = updatedByAdminId; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
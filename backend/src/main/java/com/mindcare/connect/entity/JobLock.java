@@ -0,0 +1,63 @@
+package com.mindcare.connect.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cluster-wide lock for a background job: one row per job, held by whoever set locked_by
+ * until locked_until. A holder that dies without releasing simply lets the lock expire.
+ */
+@Entity
+@Table(name = "job_locks")
+public class JobLock implements Persistable<String> {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "locked_by", length = 64)
+    private String lockedBy;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    // Rows are only ever inserted once, so save() persists instead of merging into a concurrent insert
+    @Transient
+    private boolean isNew = true;
+
+    // Constructors
+    public JobLock() {}
+
+    public JobLock(String jobName) {
+        this.jobName = jobName;
+    }
+
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() { return jobName; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    // Getters and Setters
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+
+    public String getLockedBy() { return lockedBy; }
+    public void setLockedBy(String lockedBy) { this.lockedBy = lockedBy; }
+
+    public LocalDateTime getLockedAt() { return lockedAt; }
+    public void setLockedAt(LocalDateTime lockedAt) { this.lockedAt = lockedAt; }
+
+    public LocalDateTime getLockedUntil() { return lockedUntil; }
+    public void setLockedUntil(LocalDateTime lockedUntil) { this.lockedUntil = lockedUntil; }
+}
@@ -0,0 +1,120 @@
+package com.mindcare.connect.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * One execution of an account maintenance job, scheduled or triggered by an admin.
+ */
+@Entity
+@Table(name = "maintenance_job_runs", indexes = {
+    @Index(name = "idx_maintenance_job_runs_job_started", columnList = "job_name, started_at")
+})
+public class MaintenanceJobRun {
+
+    public enum Status {
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 32)
+    private Status status = Status.RUNNING;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "affected_count", nullable = false)
+    private long affectedCount;
+
+    @Column(name = "summary", length = 500)
+    private String summary;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "triggered_by_admin_id")
+    private Long triggeredByAdminId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    // Constructors
+    public MaintenanceJobRun() {}
+
+    public MaintenanceJobRun(String jobName, Long triggeredByAdminId) {
+        this.jobName = jobName;
+        this.triggeredByAdminId = triggeredByAdminId;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public long getProcessedCount() { return processedCount; }
+    public void setProcessedCount(long processedCount) { this.processedCount = processedCount; }
+
+    public long getAffectedCount() { return affectedCount; }
+    public void setAffectedCount(long affectedCount) { this.affectedCount = affectedCount; }
+
+    public String getSummary() { return summary; }
+    public void setSummary(String summary) { this.summary = summary; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public Long getTriggeredByAdminId() { return triggeredByAdminId; }
+    public void setTriggeredByAdminId(Long triggeredByAdminId) { this.triggeredByAdminId = triggeredByAdminId; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    public Long getDurationMs() { return durationMs; }
+    public void setDurationMs(Long durationMs) { this.durationMs = durationMs; }
+
+    // Utility methods
+    public void succeed(long processed, long affected, String summary) {
+        this.processedCount = processed;
+        this.affectedCount = affected;
+        this.summary = summary;
+        finish(Status.SUCCEEDED);
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000) : errorMessage;
+        finish(Status.FAILED);
+    }
+
+    private void finish(Status status) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+        this.durationMs = Duration.between(startedAt, finishedAt).toMillis();
+    }
+}
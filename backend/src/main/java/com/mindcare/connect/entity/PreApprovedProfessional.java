@@ -1,10 +1,16 @@
 package com.mindcare.connect.entity;
 
+import com.mindcare.connect.config.CacheRegions;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "pre_approved_professionals")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRE_APPROVED_PROFESSIONALS)
 public class PreApprovedProfessional {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
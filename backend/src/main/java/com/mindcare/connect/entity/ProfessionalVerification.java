@@ -106,6 +106,22 @@ public class ProfessionalVerification {
     @Column(name = "ai_processed_at")
     private LocalDateTime aiProcessedAt;
 
+    // Review queue class (ReviewPriority rank), lower is served first
+    @Column(name = "review_priority", nullable = false)
+    private Integer reviewPriority = ReviewPriority.LOW_CONFIDENCE.getRank();
+
+    // Review lease: the admin currently working on this application and until when
+    @Column(name = "leased_by_admin_id")
+    private Long leasedByAdminId;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    // Optimistic locking so concurrent decisions on the same application cannot both win
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -210,6 +226,18 @@ public class ProfessionalVerification {
     public LocalDateTime getAiProcessedAt() { return aiProcessedAt; }
     public void setAiProcessedAt(LocalDateTime aiProcessedAt) { this.aiProcessedAt = aiProcessedAt; }
 
+    public Integer getReviewPriority() { return reviewPriority; }
+    public void setReviewPriority(Integer reviewPriority) { this.reviewPriority = reviewPriority; }
+
+    public Long getLeasedByAdminId() { return leasedByAdminId; }
+    public void setLeasedByAdminId(Long leasedByAdminId) { this.leasedByAdminId = leasedByAdminId; }
+
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) { this.leaseExpiresAt = leaseExpiresAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     // Utility methods
     public boolean isPending() { return status == VerificationStatus.PENDING; }
     public boolean isApproved() { return status == VerificationStatus.APPROVED; }
@@ -219,12 +247,28 @@ public class ProfessionalVerification {
         return status == VerificationStatus.PENDING || status == VerificationStatus.UNDER_REVIEW;
     }
 
+    public boolean isLeasedByOther(Long adminId, LocalDateTime now) {
+        return leasedByAdminId != null && !leasedByAdminId.equals(adminId) &&
+               leaseExpiresAt != null && leaseExpiresAt.isAfter(now);
+    }
+
+    public void lease(Long adminId, LocalDateTime expiresAt) {
+        this.leasedByAdminId = adminId;
+        this.leaseExpiresAt = expiresAt;
+    }
+
+    public void releaseLease() {
+        this.leasedByAdminId = null;
+        this.leaseExpiresAt = null;
+    }
+
     public void approve(Long adminId, String notes) {
         this.status = VerificationStatus.APPROVED;
         this.verifiedByAdminId = adminId;
         this.verifiedAt = LocalDateTime.now();
         this.adminNotes = notes;
         this.rejectionReason = null;
+        releaseLease();
     }
 
     public void reject(Long adminId, String reason, String notes) {
@@ -233,6 +277,7 @@ public class ProfessionalVerification {
         this.verifiedAt = LocalDateTime.now();
         this.rejectionReason = reason;
         this.adminNotes = notes;
+        releaseLease();
     }
 
     public void updateAiConfidence(Double confidenceScore, String recommendation, String matchDetails) {
@@ -0,0 +1,251 @@
+package com.mindcare.connect.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Decided or superseded verification application, moved out of professional_verifications.
+ * On PostgreSQL the table is range-partitioned by archived_at (one partition per month),
+ * so the live table only holds workflow rows and history reads prune to a few partitions.
+ * The id is the original application id.
+ */
+@Entity
+@Table(name = "professional_verification_archive")
+public class ProfessionalVerificationArchive implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "professional_type", nullable = false)
+    private ProfessionalType professionalType;
+
+    @Column(name = "bmdc_number")
+    private String bmdcNumber;
+
+    @Column(name = "degree_institution")
+    private String degreeInstitution;
+
+    @Column(name = "degree_title")
+    private String degreeTitle;
+
+    @Column(name = "affiliation")
+    private String affiliation;
+
+    @Column(name = "experience_years")
+    private Integer experienceYears;
+
+    @Column(name = "specialization")
+    private String specialization;
+
+    @Column(name = "languages_spoken", columnDefinition = "TEXT")
+    private String languagesSpoken;
+
+    @Column(name = "clinic_address", columnDefinition = "TEXT")
+    private String clinicAddress;
+
+    @Column(name = "contact_email")
+    private String contactEmail;
+
+    @Column(name = "contact_phone")
+    private String contactPhone;
+
+    @Column(name = "license_document_url", nullable = false)
+    private String licenseDocumentUrl;
+
+    @Column(name = "degree_document_url")
+    private String degreeDocumentUrl;
+
+    @Column(name = "additional_documents_urls", columnDefinition = "TEXT")
+    private String additionalDocumentsUrls;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private VerificationStatus status;
+
+    @Column(name = "admin_notes", columnDefinition = "TEXT")
+    private String adminNotes;
+
+    @Column(name = "rejection_reason", columnDefinition = "TEXT")
+    private String rejectionReason;
+
+    @Column(name = "verified_by_admin_id")
+    private Long verifiedByAdminId;
+
+    @Column(name = "verified_at")
+    private LocalDateTime verifiedAt;
+
+    @Column(name = "correlation_id")
+    private String correlationId;
+
+    @Column(name = "ai_confidence_score")
+    private Double aiConfidenceScore;
+
+    @Column(name = "ai_recommendation", columnDefinition = "TEXT")
+    private String aiRecommendation;
+
+    @Column(name = "ai_match_details", columnDefinition = "TEXT")
+    private String aiMatchDetails;
+
+    @Column(name = "ai_processed_at")
+    private LocalDateTime aiProcessedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "archive_reason", nullable = false, length = 32)
+    private ArchiveReason archiveReason;
+
+    // Archive rows are only ever inserted, so save() persists instead of selecting the assigned id first
+    @Transient
+    private boolean isNew = true;
+
+    // Constructors
+    public ProfessionalVerificationArchive() {}
+
+    public ProfessionalVerificationArchive(ProfessionalVerification verification, ArchiveReason archiveReason,
+                                           LocalDateTime archivedAt) {
+        this.id = verification.getId();
+        this.userId = verification.getUser().getId();
+        this.professionalType = verification.getProfessionalType();
+        this.bmdcNumber = verification.getBmdcNumber();
+        this.degreeInstitution = verification.getDegreeInstitution();
+        this.degreeTitle = verification.getDegreeTitle();
+        this.affiliation = verification.getAffiliation();
+        this.experienceYears = verification.getExperienceYears();
+        this.specialization = verification.getSpecialization();
+        this.languagesSpoken = verification.getLanguagesSpoken();
+        this.clinicAddress = verification.getClinicAddress();
+        this.contactEmail = verification.getContactEmail();
+        this.contactPhone = verification.getContactPhone();
+        this.licenseDocumentUrl = verification.getLicenseDocumentUrl();
+        this.degreeDocumentUrl = verification.getDegreeDocumentUrl();
+        this.additionalDocumentsUrls = verification.getAdditionalDocumentsUrls();
+        this.status = verification.getStatus();
+        this.adminNotes = verification.getAdminNotes();
+        this.rejectionReason = verification.getRejectionReason();
+        this.verifiedByAdminId = verification.getVerifiedByAdminId();
+        this.verifiedAt = verification.getVerifiedAt();
+        this.correlationId = verification.getCorrelationId();
+        this.aiConfidenceScore = verification.getAiConfidenceScore();
+        this.aiRecommendation = verification.getAiRecommendation();
+        this.aiMatchDetails = verification.getAiMatchDetails();
+        this.aiProcessedAt = verification.getAiProcessedAt();
+        this.createdAt = verification.getCreatedAt();
+        this.updatedAt = verification.getUpdatedAt();
+        this.archiveReason = archiveReason;
+        this.archivedAt = archivedAt;
+    }
+
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    // Getters and Setters
+    @Override
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public ProfessionalType getProfessionalType() { return professionalType; }
+    public void setProfessionalType(ProfessionalType professionalType) { this.professionalType = professionalType; }
+
+    public String getBmdcNumber() { return bmdcNumber; }
+    public void setBmdcNumber(String bmdcNumber) { this.bmdcNumber = bmdcNumber; }
+
+    public String getDegreeInstitution() { return degreeInstitution; }
+    public void setDegreeInstitution(String degreeInstitution) { this.degreeInstitution = degreeInstitution; }
+
+    public String getDegreeTitle() { return degreeTitle; }
+    public void setDegreeTitle(String degreeTitle) { this.degreeTitle = degreeTitle; }
+
+    public String getAffiliation() { return affiliation; }
+    public void setAffiliation(String affiliation) { this.affiliation = affiliation; }
+
+    public Integer getExperienceYears() { return experienceYears; }
+    public void setExperienceYears(Integer experienceYears) { this.experienceYears = experienceYears; }
+
+    public String getSpecialization() { return specialization; }
+    public void setSpecialization(String specialization) { this.specialization = specialization; }
+
+    public String getLanguagesSpoken() { return languagesSpoken; }
+    public void setLanguagesSpoken(String languagesSpoken) { this.languagesSpoken = languagesSpoken; }
+
+    public String getClinicAddress() { return clinicAddress; }
+    public void setClinicAddress(String clinicAddress) { this.clinicAddress = clinicAddress; }
+
+    public String getContactEmail() { return contactEmail; }
+    public void setContactEmail(String contactEmail) { this.contactEmail = contactEmail; }
+
+    public String getContactPhone() { return contactPhone; }
+    public void setContactPhone(String contactPhone) { this.contactPhone = contactPhone; }
+
+    public String getLicenseDocumentUrl() { return licenseDocumentUrl; }
+    public void setLicenseDocumentUrl(String licenseDocumentUrl) { this.licenseDocumentUrl = licenseDocumentUrl; }
+
+    public String getDegreeDocumentUrl() { return degreeDocumentUrl; }
+    public void setDegreeDocumentUrl(String degreeDocumentUrl) { this.degreeDocumentUrl = degreeDocumentUrl; }
+
+    public String getAdditionalDocumentsUrls() { return additionalDocumentsUrls; }
+    public void setAdditionalDocumentsUrls(String additionalDocumentsUrls) { this.additionalDocumentsUrls = additionalDocumentsUrls; }
+
+    public VerificationStatus getStatus() { return status; }
+    public void setStatus(VerificationStatus status) { this.status = status; }
+
+    public String getAdminNotes() { return adminNotes; }
+    public void setAdminNotes(String adminNotes) { this.adminNotes = adminNotes; }
+
+    public String getRejectionReason() { return rejectionReason; }
+    public void setRejectionReason(String rejectionReason) { this.rejectionReason = rejectionReason; }
+
+    public Long getVerifiedByAdminId() { return verifiedByAdminId; }
+    public void setVerifiedByAdminId(Long verifiedByAdminId) { this.verifiedByAdminId = verifiedByAdminId; }
+
+    public LocalDateTime getVerifiedAt() { return verifiedAt; }
+    public void setVerifiedAt(LocalDateTime verifiedAt) { this.verifiedAt = verifiedAt; }
+
+    public String getCorrelationId() { return correlationId; }
+    public void setCorrelationId(String correlationId) { this.correlationId = correlationId; }
+
+    public Double getAiConfidenceScore() { return aiConfidenceScore; }
+    public void setAiConfidenceScore(Double aiConfidenceScore) { this.aiConfidenceScore = aiConfidenceScore; }
+
+    public String getAiRecommendation() { return aiRecommendation; }
+    public void setAiRecommendation(String aiRecommendation) { this.aiRecommendation = aiRecommendation; }
+
+    public String getAiMatchDetails() { return aiMatchDetails; }
+    public void setAiMatchDetails(String aiMatchDetails) { this.aiMatchDetails = aiMatchDetails; }
+
+    public LocalDateTime getAiProcessedAt() { return aiProcessedAt; }
+    public void setAiProcessedAt(LocalDateTime aiProcessedAt) { this.aiProcessedAt = aiProcessedAt; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+    public void setArchivedAt(LocalDateTime archivedAt) { this.archivedAt = archivedAt; }
+
+    public ArchiveReason getArchiveReason() { return archiveReason; }
+    public void setArchiveReason(ArchiveReason archiveReason) { this.archiveReason = archiveReason; }
+}
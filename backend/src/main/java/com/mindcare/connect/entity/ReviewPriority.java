@@ -0,0 +1,36 @@
+package com.mindcare.connect.entity;
+
+public enum ReviewPriority {
+    OVERDUE(0, "Waiting longer than the review SLA - served first regardless of confidence"),
+    HIGH_CONFIDENCE(1, "Strong match against the pre-approved reference list"),
+    MEDIUM_CONFIDENCE(2, "Partial match - quick manual check"),
+    LOW_CONFIDENCE(3, "No or weak match - full manual review");
+
+    private final int rank;
+    private final String description;
+
+    ReviewPriority(int rank, String description) {
+        this.rank = rank;
+        this.description = description;
+    }
+
+    // Stored in review_priority; lower ranks are reviewed first
+    public int getRank() {
+        return rank;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static ReviewPriority fromRank(Integer rank) {
+        if (rank != null) {
+            for (ReviewPriority priority : values()) {
+                if (priority.rank == rank) {
+                    return priority;
+                }
+            }
+        }
+        return LOW_CONFIDENCE;
+    }
+}
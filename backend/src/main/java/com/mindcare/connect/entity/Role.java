@@ -1,18 +1,77 @@
 package com.mindcare.connect.entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * User roles. Each role has a fixed bit in users.roles_mask; the bit values are
+ * persisted and must never be renumbered.
+ */
 public enum Role {
-    ADMIN("Administrator - Full system access"),
-    PROFESSIONAL("Mental Health Professional - Can manage appointments and patients"),
-    PATIENT("Patient/User - Can book appointments and access wellness resources"),
-    MODERATOR("Community Moderator - Can moderate peer support community");
+    ADMIN(1, "Administrator - Full system access"),
+    PROFESSIONAL(2, "Mental Health Professional - Can manage appointments and patients"),
+    PATIENT(4, "Patient/User - Can book appointments and access wellness resources"),
+    MODERATOR(8, "Community Moderator - Can moderate peer support community");
+    
+    // Union of every role's bit, so adding a role extends masksContaining() without another edit
+    private static final int ALL_BITS;
+    
+    static {
+        int allBits = 0;
+        for (Role role : values()) {
+            allBits |= role.bit;
+        }
+        ALL_BITS = allBits;
+    }
     
+    private final int bit;
     private final String description;
     
-    Role(String description) {
+    Role(int bit, String description) {
+        this.bit = bit;
         this.description = description;
     }
     
+    public int getBit() {
+        return bit;
+    }
+    
     public String getDescription() {
         return description;
     }
+    
+    public static int toMask(Collection<Role> roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= role.bit;
+        }
+        return mask;
+    }
+    
+    public static Set<Role> fromMask(int mask) {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        for (Role role : values()) {
+            if ((mask & role.bit) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+    
+    /**
+     * Every mask value that includes this role. Lets role filters be written as an
+     * indexable "roles_mask IN (...)" instead of a bitwise expression.
+     */
+    public List<Integer> masksContaining() {
+        List<Integer> masks = new ArrayList<>();
+        for (int mask = 0; mask <= ALL_BITS; mask++) {
+            if ((mask & bit) != 0) {
+                masks.add(mask);
+            }
+        }
+        return masks;
+    }
 }
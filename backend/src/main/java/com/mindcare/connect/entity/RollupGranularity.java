@@ -0,0 +1,40 @@
+package com.mindcare.connect.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum RollupGranularity {
+    DAY("Daily activity bucket"),
+    WEEK("Weekly activity bucket (weeks start on Monday)");
+
+    private final String description;
+
+    RollupGranularity(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDate bucketStart(LocalDate date) {
+        switch (this) {
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case DAY:
+            default:
+                return date;
+        }
+    }
+
+    public LocalDate next(LocalDate bucketStart) {
+        switch (this) {
+            case WEEK:
+                return bucketStart.plusWeeks(1);
+            case DAY:
+            default:
+                return bucketStart.plusDays(1);
+        }
+    }
+}
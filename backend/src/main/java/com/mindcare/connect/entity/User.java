@@ -1,24 +1,29 @@
 package com.mindcare.connect.entity;
 
+import com.mindcare.connect.config.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Set;
 
 @Entity
 @Table(name = "users", uniqueConstraints = {
-    @UniqueConstraint(columnNames = "email"),
-    @UniqueConstraint(columnNames = "phone")
+    @UniqueConstraint(name = "uk_users_email", columnNames = "email"),
+    @UniqueConstraint(name = "uk_users_phone", columnNames = "phone")
 })
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 public class User {
     
     @Id
@@ -49,11 +54,9 @@ public class User {
     @Column(name = "password", nullable = false)
     private String password;
     
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
-    @Column(name = "role")
-    private Set<Role> roles = new HashSet<>();
+    // One bit per Role (Role.getBit); loaded with the row, no collection table or join
+    @Column(name = "roles_mask", nullable = false)
+    private int rolesMask = 0;
     
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
@@ -74,6 +77,10 @@ public class User {
     @Column(name = "last_login")
     private LocalDateTime lastLogin;
     
+    // Set by AccountMaintenanceService on accounts left unverified and unused past the stale window
+    @Column(name = "stale_flagged_at")
+    private LocalDateTime staleFlaggedAt;
+    
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -91,7 +98,7 @@ public class User {
         this.lastName = lastName;
         this.email = email;
         this.password = password;
-        this.roles.add(Role.PATIENT); // Default role
+        this.rolesMask = Role.PATIENT.getBit(); // Default role
     }
     
     // Constructor for admin
@@ -100,7 +107,7 @@ public class User {
         this.lastName = lastName;
         this.email = email;
         this.password = password;
-        this.roles = roles;
+        this.rolesMask = Role.toMask(roles);
     }
     
     // Getters and Setters
@@ -122,8 +129,11 @@ public class User {
     public String getPassword() { return password; }
     public void setPassword(String password) { this.password = password; }
     
-    public Set<Role> getRoles() { return roles; }
-    public void setRoles(Set<Role> roles) { this.roles = roles; }
+    public Set<Role> getRoles() { return Collections.unmodifiableSet(Role.fromMask(rolesMask)); }
+    public void setRoles(Set<Role> roles) { this.rolesMask = Role.toMask(roles); }
+    
+    public int getRolesMask() { return rolesMask; }
+    public void setRolesMask(int rolesMask) { this.rolesMask = rolesMask; }
     
     public UserStatus getStatus() { return status; }
     public void setStatus(UserStatus status) { this.status = status; }
@@ -143,6 +153,9 @@ public class User {
     public LocalDateTime getLastLogin() { return lastLogin; }
     public void setLastLogin(LocalDateTime lastLogin) { this.lastLogin = lastLogin; }
     
+    public LocalDateTime getStaleFlaggedAt() { return staleFlaggedAt; }
+    public void setStaleFlaggedAt(LocalDateTime staleFlaggedAt) { this.staleFlaggedAt = staleFlaggedAt; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -159,7 +172,15 @@ public class User {
     }
     
     public boolean hasRole(Role role) {
-        return roles.contains(role);
+        return (rolesMask & role.getBit()) != 0;
+    }
+    
+    public void addRole(Role role) {
+        this.rolesMask |= role.getBit();
+    }
+    
+    public void removeRole(Role role) {
+        this.rolesMask &= ~role.getBit();
     }
     
     public void incrementLoginAttempts() {
@@ -0,0 +1,173 @@
+package com.mindcare.connect.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated verification activity for one time bucket and professional type.
+ * Daily buckets are written incrementally as events happen and compacted into
+ * weekly buckets once they fall out of the daily retention window.
+ */
+@Entity
+@Table(name = "verification_activity_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_activity_rollup_bucket", columnNames = {"granularity", "bucket_start", "professional_type"})
+})
+public class VerificationActivityRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 16)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "professional_type", nullable = false)
+    private ProfessionalType professionalType;
+
+    @Column(name = "submitted_count", nullable = false)
+    private long submittedCount;
+
+    @Column(name = "approved_count", nullable = false)
+    private long approvedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private long rejectedCount;
+
+    // Time to decision, kept as a sum so buckets can be merged exactly
+    @Column(name = "decision_count", nullable = false)
+    private long decisionCount;
+
+    @Column(name = "decision_seconds_total", nullable = false)
+    private long decisionSecondsTotal;
+
+    // Confidence distribution, one column per ConfidenceResult level
+    @Column(name = "confidence_no_match", nullable = false)
+    private long confidenceNoMatch;
+
+    @Column(name = "confidence_poor", nullable = false)
+    private long confidencePoor;
+
+    @Column(name = "confidence_fair", nullable = false)
+    private long confidenceFair;
+
+    @Column(name = "confidence_good", nullable = false)
+    private long confidenceGood;
+
+    @Column(name = "confidence_excellent", nullable = false)
+    private long confidenceExcellent;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public VerificationActivityRollup() {}
+
+    public VerificationActivityRollup(RollupGranularity granularity, LocalDate bucketStart, ProfessionalType professionalType) {
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.professionalType = professionalType;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public RollupGranularity getGranularity() { return granularity; }
+    public void setGranularity(RollupGranularity granularity) { this.granularity = granularity; }
+
+    public LocalDate getBucketStart() { return bucketStart; }
+    public void setBucketStart(LocalDate bucketStart) { this.bucketStart = bucketStart; }
+
+    public ProfessionalType getProfessionalType() { return professionalType; }
+    public void setProfessionalType(ProfessionalType professionalType) { this.professionalType = professionalType; }
+
+    public long getSubmittedCount() { return submittedCount; }
+    public void setSubmittedCount(long submittedCount) { this.submittedCount = submittedCount; }
+
+    public long getApprovedCount() { return approvedCount; }
+    public void setApprovedCount(long approvedCount) { this.approvedCount = approvedCount; }
+
+    public long getRejectedCount() { return rejectedCount; }
+    public void setRejectedCount(long rejectedCount) { this.rejectedCount = rejectedCount; }
+
+    public long getDecisionCount() { return decisionCount; }
+    public void setDecisionCount(long decisionCount) { this.decisionCount = decisionCount; }
+
+    public long getDecisionSecondsTotal() { return decisionSecondsTotal; }
+    public void setDecisionSecondsTotal(long decisionSecondsTotal) { this.decisionSecondsTotal = decisionSecondsTotal; }
+
+    public long getConfidenceNoMatch() { return confidenceNoMatch; }
+    public void setConfidenceNoMatch(long confidenceNoMatch) { this.confidenceNoMatch = confidenceNoMatch; }
+
+    public long getConfidencePoor() { return confidencePoor; }
+    public void setConfidencePoor(long confidencePoor) { this.confidencePoor = confidencePoor; }
+
+    public long getConfidenceFair() { return confidenceFair; }
+    public void setConfidenceFair(long confidenceFair) { this.confidenceFair = confidenceFair; }
+
+    public long getConfidenceGood() { return confidenceGood; }
+    public void setConfidenceGood(long confidenceGood) { this.confidenceGood = confidenceGood; }
+
+    public long getConfidenceExcellent() { return confidenceExcellent; }
+    public void setConfidenceExcellent(long confidenceExcellent) { this.confidenceExcellent = confidenceExcellent; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    // Utility methods
+    public void recordSubmission(Double confidenceScore) {
+        this.submittedCount++;
+        if (confidenceScore != null) {
+            recordConfidence(confidenceScore);
+        }
+    }
+
+    public void recordDecision(VerificationStatus decision, long decisionSeconds) {
+        if (decision == VerificationStatus.APPROVED) {
+            this.approvedCount++;
+        } else if (decision == VerificationStatus.REJECTED) {
+            this.rejectedCount++;
+        }
+        this.decisionCount++;
+        this.decisionSecondsTotal += Math.max(0L, decisionSeconds);
+    }
+
+    private void recordConfidence(double confidenceScore) {
+        if (confidenceScore >= 0.90) confidenceExcellent++;
+        else if (confidenceScore >= 0.75) confidenceGood++;
+        else if (confidenceScore >= 0.50) confidenceFair++;
+        else if (confidenceScore >= 0.25) confidencePoor++;
+        else confidenceNoMatch++;
+    }
+
+    /**
+     * Add every counter of another bucket into this one
+     */
+    public void merge(VerificationActivityRollup other) {
+        this.submittedCount += other.submittedCount;
+        this.approvedCount += other.approvedCount;
+        this.rejectedCount += other.rejectedCount;
+        this.decisionCount += other.decisionCount;
+        this.decisionSecondsTotal += other.decisionSecondsTotal;
+        this.confidenceNoMatch += other.confidenceNoMatch;
+        this.confidencePoor += other.confidencePoor;
+        this.confidenceFair += other.confidenceFair;
+        this.confidenceGood += other.confidenceGood;
+        this.confidenceExcellent += other.confidenceExcellent;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
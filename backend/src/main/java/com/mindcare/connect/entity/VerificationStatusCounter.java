@@ -0,0 +1,45 @@
+package com.mindcare.connect.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Maintained per-status count of verification applications.
+ * Adjusted in the same transaction as every status transition and periodically
+ * reconciled against the professional_verifications table.
+ */
+@Entity
+@Table(name = "verification_status_counters")
+public class VerificationStatusCounter {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 32)
+    private VerificationStatus status;
+
+    @Column(name = "total", nullable = false)
+    private Long total = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public VerificationStatusCounter() {}
+
+    public VerificationStatusCounter(VerificationStatus status, Long total) {
+        this.status = status;
+        this.total = total;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public VerificationStatus getStatus() { return status; }
+    public void setStatus(VerificationStatus status) { this.status = status; }
+
+    public Long getTotal() { return total; }
+    public void setTotal(Long total) { this.total = total; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
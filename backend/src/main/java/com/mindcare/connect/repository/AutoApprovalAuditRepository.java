@@ -0,0 +1,17 @@
+package com.mindcare.connect.repository;
+
+import com.mindcare.connect.entity.AutoApprovalAudit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AutoApprovalAuditRepository extends JpaRepository<AutoApprovalAudit, Long> {
+
+    Page<AutoApprovalAudit> findAllByOrderByEvaluatedAtDesc(Pageable pageable);
+
+    List<AutoApprovalAudit> findByVerificationIdOrderByEvaluatedAtDesc(Long verificationId);
+}
@@ -0,0 +1,14 @@
+package com.mindcare.connect.repository;
+
+import com.mindcare.connect.entity.AutoApprovalPolicy;
+import com.mindcare.connect.entity.ProfessionalType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AutoApprovalPolicyRepository extends JpaRepository<AutoApprovalPolicy, ProfessionalType> {
+
+    List<AutoApprovalPolicy> findByEnabledTrue();
+}
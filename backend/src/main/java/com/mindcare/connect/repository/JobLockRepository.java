@@ -0,0 +1,30 @@
+package com.mindcare.connect.repository;
+
+import com.mindcare.connect.entity.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // Conditional updates: the row lock taken by the UPDATE makes concurrent acquires see each other
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedBy = :owner, l.lockedAt = :now, l.lockedUntil = :until " +
+           "WHERE l.jobName = :jobName AND (l.lockedUntil IS NULL OR l.lockedUntil < :now)")
+    int acquire(@Param("jobName") String jobName, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :until WHERE l.jobName = :jobName AND l.lockedBy = :owner")
+    int extend(@Param("jobName") String jobName, @Param("owner") String owner, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedBy = NULL, l.lockedUntil = NULL " +
+           "WHERE l.jobName = :jobName AND l.lockedBy = :owner")
+    int release(@Param("jobName") String jobName, @Param("owner") String owner);
+}
@@ -0,0 +1,24 @@
+package com.mindcare.connect.repository;
+
+import com.mindcare.connect.entity.MaintenanceJobRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface MaintenanceJobRunRepository extends JpaRepository<MaintenanceJobRun, Long> {
+
+    Page<MaintenanceJobRun> findAllByOrderByStartedAtDesc(Pageable pageable);
+
+    Page<MaintenanceJobRun> findByJobNameOrderByStartedAtDesc(String jobName, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM MaintenanceJobRun r WHERE r.startedAt < :cutoff AND r.finishedAt IS NOT NULL")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,9 +1,14 @@
 package com.mindcare.connect.repository;
 
+import com.mindcare.connect.config.CacheRegions;
+import com.mindcare.connect.config.QueryTimeouts;
 import com.mindcare.connect.entity.PreApprovedProfessional;
 import com.mindcare.connect.entity.ProfessionalType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,15 +18,27 @@ import java.util.Optional;
 @Repository
 public interface PreApprovedProfessionalRepository extends JpaRepository<PreApprovedProfessional, Long> {
     
-    // Find by email
-    Optional<PreApprovedProfessional> findByEmailIgnoreCase(String email);
+    // Find by email (LOWER() matches the idx_pap_lower_email functional index)
+    @Query("SELECT p FROM PreApprovedProfessional p WHERE LOWER(p.email) = LOWER(:email)")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PRE_APPROVED_LOOKUPS)})
+    Optional<PreApprovedProfessional> findByEmailIgnoreCase(@Param("email") String email);
     
     // Find by email and professional type
-    Optional<PreApprovedProfessional> findByEmailIgnoreCaseAndProfessionalType(String email, ProfessionalType professionalType);
+    @Query("SELECT p FROM PreApprovedProfessional p WHERE LOWER(p.email) = LOWER(:email) AND p.professionalType = :type")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PRE_APPROVED_LOOKUPS)})
+    Optional<PreApprovedProfessional> findByEmailIgnoreCaseAndProfessionalType(@Param("email") String email,
+                                                                              @Param("type") ProfessionalType professionalType);
     
     // Find by email, type and specialization for exact matching
+    @Query("SELECT p FROM PreApprovedProfessional p WHERE LOWER(p.email) = LOWER(:email) AND " +
+           "p.professionalType = :type AND LOWER(p.specialization) = LOWER(:specialization)")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PRE_APPROVED_LOOKUPS)})
     Optional<PreApprovedProfessional> findByEmailIgnoreCaseAndProfessionalTypeAndSpecializationIgnoreCase(
-        String email, ProfessionalType professionalType, String specialization);
+        @Param("email") String email, @Param("type") ProfessionalType professionalType,
+        @Param("specialization") String specialization);
     
     // Search functionality for admin
     @Query("SELECT p FROM PreApprovedProfessional p WHERE " +
@@ -29,6 +46,7 @@ public interface PreApprovedProfessionalRepository extends JpaRepository<PreAppr
            "(:name IS NULL OR LOWER(p.fullName) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
            "(:type IS NULL OR p.professionalType = :type) AND " +
            "(:specialization IS NULL OR LOWER(p.specialization) LIKE LOWER(CONCAT('%', :specialization, '%')))")
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
     List<PreApprovedProfessional> searchPreApproved(
         @Param("email") String email,
         @Param("name") String name, 
@@ -37,28 +55,38 @@ public interface PreApprovedProfessionalRepository extends JpaRepository<PreAppr
     
     // Auto-verification queries for BMDC matching
     @Query("SELECT p FROM PreApprovedProfessional p WHERE p.bmdcNumber = :bmdcNumber AND p.professionalType = :type")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PRE_APPROVED_LOOKUPS)})
     List<PreApprovedProfessional> findByBmdcNumberAndProfessionalType(@Param("bmdcNumber") String bmdcNumber, 
                                                                       @Param("type") ProfessionalType type);
 
     @Query("SELECT p FROM PreApprovedProfessional p WHERE p.bmdcNumber LIKE %:bmdcNumber% AND p.professionalType = :type")
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
     List<PreApprovedProfessional> findByBmdcNumberContainingAndProfessionalType(@Param("bmdcNumber") String bmdcNumber,
                                                                                @Param("type") ProfessionalType type);
 
     // Auto-verification queries for degree/institution matching
     @Query("SELECT p FROM PreApprovedProfessional p WHERE p.degreeTitle = :degreeTitle AND p.degreeInstitution = :institution AND p.professionalType = :type")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PRE_APPROVED_LOOKUPS)})
     List<PreApprovedProfessional> findByDegreeAndInstitutionAndProfessionalType(@Param("degreeTitle") String degreeTitle,
                                                                                @Param("institution") String institution,
                                                                                @Param("type") ProfessionalType type);
 
     // Fuzzy matching for degrees (for confidence calculation)
     @Query("SELECT p FROM PreApprovedProfessional p WHERE LOWER(p.degreeTitle) LIKE LOWER(CONCAT('%', :degree, '%')) AND p.professionalType = :type")
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
     List<PreApprovedProfessional> findByDegreeContainingAndProfessionalType(@Param("degree") String degree, @Param("type") ProfessionalType type);
 
     // Fuzzy matching for BMDC (broader search)
     @Query("SELECT p FROM PreApprovedProfessional p WHERE p.bmdcNumber LIKE %:bmdcNumber% AND p.professionalType = 'PSYCHIATRIST'")
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
     List<PreApprovedProfessional> findByBmdcNumberContaining(@Param("bmdcNumber") String bmdcNumber);
     
     // Get all ordered by upload date
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PRE_APPROVED_LOOKUPS),
+                 @QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.EXPORT)})
     List<PreApprovedProfessional> findAllByOrderByUploadedAtDesc();
     
     // Count total records
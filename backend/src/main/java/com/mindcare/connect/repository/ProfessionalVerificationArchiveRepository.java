@@ -0,0 +1,39 @@
+package com.mindcare.connect.repository;
+
+import com.mindcare.connect.config.QueryTimeouts;
+import com.mindcare.connect.entity.ProfessionalType;
+import com.mindcare.connect.entity.ProfessionalVerificationArchive;
+import com.mindcare.connect.entity.VerificationStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface ProfessionalVerificationArchiveRepository extends JpaRepository<ProfessionalVerificationArchive, Long> {
+
+    // Most recent archived attempt of a user (status fallback when the live table has none)
+    Optional<ProfessionalVerificationArchive> findFirstByUserIdOrderByArchivedAtDesc(Long userId);
+
+    Page<ProfessionalVerificationArchive> findByUserIdOrderByArchivedAtDesc(Long userId, Pageable pageable);
+
+    // Admin history search; the archived_at bounds let PostgreSQL prune monthly partitions
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
+    @Query("SELECT a FROM ProfessionalVerificationArchive a WHERE " +
+           "(:type IS NULL OR a.professionalType = :type) AND " +
+           "(:status IS NULL OR a.status = :status) AND " +
+           "a.archivedAt >= :from AND a.archivedAt < :to " +
+           "ORDER BY a.archivedAt DESC")
+    Page<ProfessionalVerificationArchive> search(@Param("type") ProfessionalType type,
+                                                 @Param("status") VerificationStatus status,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to,
+                                                 Pageable pageable);
+}
@@ -1,18 +1,29 @@
 package com.mindcare.connect.repository;
 
+import com.mindcare.connect.config.QueryTimeouts;
+import com.mindcare.connect.entity.ProfessionalType;
 import com.mindcare.connect.entity.ProfessionalVerification;
 import com.mindcare.connect.entity.User;
 import com.mindcare.connect.entity.VerificationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProfessionalVerificationRepository extends JpaRepository<ProfessionalVerification, Long> {
@@ -20,6 +31,7 @@ public interface ProfessionalVerificationRepository extends JpaRepository<Profes
     // Find by user
     Optional<ProfessionalVerification> findByUser(User user);
     
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.LOOKUP))
     Optional<ProfessionalVerification> findByUserId(Long userId);
 
     // Find by correlation ID for tracking
@@ -35,6 +47,13 @@ public interface ProfessionalVerificationRepository extends JpaRepository<Profes
     
     Page<ProfessionalVerification> findByStatus(VerificationStatus status, Pageable pageable);
 
+    // Compact admin listings: Slice fetches one extra row instead of running a COUNT query
+    @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = :status")
+    Slice<ProfessionalVerification> findSliceByStatus(@Param("status") VerificationStatus status, Pageable pageable);
+
+    @Query("SELECT pv FROM ProfessionalVerification pv")
+    Slice<ProfessionalVerification> findAllSlice(Pageable pageable);
+
     // Find pending applications for admin review
     @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = 'PENDING' ORDER BY pv.createdAt ASC")
     List<ProfessionalVerification> findPendingApplications();
@@ -42,10 +61,14 @@ public interface ProfessionalVerificationRepository extends JpaRepository<Profes
     @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = 'PENDING' ORDER BY pv.createdAt ASC")
     Page<ProfessionalVerification> findPendingApplications(Pageable pageable);
 
+    @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = 'PENDING' ORDER BY pv.createdAt ASC")
+    Slice<ProfessionalVerification> findPendingApplicationsSlice(Pageable pageable);
+
     // Find applications by admin who verified them
     List<ProfessionalVerification> findByVerifiedByAdminId(Long adminId);
 
     // Find applications within date range
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.REPORT))
     @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.createdAt BETWEEN :startDate AND :endDate ORDER BY pv.createdAt DESC")
     List<ProfessionalVerification> findByCreatedAtBetween(@Param("startDate") LocalDateTime startDate, 
                                                          @Param("endDate") LocalDateTime endDate);
@@ -54,11 +77,16 @@ public interface ProfessionalVerificationRepository extends JpaRepository<Profes
     @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.bmdcNumber = :bmdcNumber AND pv.status = 'APPROVED'")
     List<ProfessionalVerification> findApprovedByBmdcNumber(@Param("bmdcNumber") String bmdcNumber);
 
+    @Query("SELECT pv.bmdcNumber FROM ProfessionalVerification pv WHERE pv.id = :id AND pv.bmdcNumber IS NOT NULL")
+    Optional<String> findBmdcNumberById(@Param("id") Long id);
+
     // Count applications by status
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.REPORT))
     @Query("SELECT COUNT(pv) FROM ProfessionalVerification pv WHERE pv.status = :status")
     Long countByStatus(@Param("status") VerificationStatus status);
 
     // Get statistics for admin dashboard
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.REPORT))
     @Query("SELECT pv.status, COUNT(pv) FROM ProfessionalVerification pv GROUP BY pv.status")
     List<Object[]> getVerificationStatistics();
 
@@ -66,19 +94,39 @@ public interface ProfessionalVerificationRepository extends JpaRepository<Profes
     @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = 'APPROVED' AND pv.verifiedAt >= :since ORDER BY pv.verifiedAt DESC")
     List<ProfessionalVerification> findRecentlyApproved(@Param("since") LocalDateTime since);
 
+    // Streaming variants for batch jobs (StreamingBatchProcessor): id-ordered and resumable after an id
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+                 @QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.EXPORT)})
+    @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = :status AND pv.id > :afterId ORDER BY pv.id")
+    Stream<ProfessionalVerification> streamByStatus(@Param("status") VerificationStatus status,
+                                                    @Param("afterId") Long afterId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+                 @QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.EXPORT)})
+    @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = 'APPROVED' AND pv.verifiedAt >= :since " +
+           "AND pv.id > :afterId ORDER BY pv.id")
+    Stream<ProfessionalVerification> streamRecentlyApproved(@Param("since") LocalDateTime since,
+                                                            @Param("afterId") Long afterId);
+
     // Professionals directory queries
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
     @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = 'APPROVED' ORDER BY pv.verifiedAt DESC")
     Page<ProfessionalVerification> findApprovedProfessionals(Pageable pageable);
 
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
     @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = 'APPROVED' AND pv.professionalType = :type ORDER BY pv.verifiedAt DESC")
     Page<ProfessionalVerification> findApprovedByType(@Param("type") com.mindcare.connect.entity.ProfessionalType type, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
     @Query("SELECT pv FROM ProfessionalVerification pv JOIN pv.user u WHERE pv.status = 'APPROVED' AND " +
            "(LOWER(u.firstName) LIKE %:search% OR LOWER(u.lastName) LIKE %:search% OR " +
            "LOWER(pv.specialization) LIKE %:search% OR LOWER(pv.degreeInstitution) LIKE %:search%) " +
            "ORDER BY pv.verifiedAt DESC")
     Page<ProfessionalVerification> findApprovedBySearch(@Param("search") String search, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
     @Query("SELECT pv FROM ProfessionalVerification pv JOIN pv.user u WHERE pv.status = 'APPROVED' AND " +
            "pv.professionalType = :type AND " +
            "(LOWER(u.firstName) LIKE %:search% OR LOWER(u.lastName) LIKE %:search% OR " +
@@ -87,4 +135,127 @@ public interface ProfessionalVerificationRepository extends JpaRepository<Profes
     Page<ProfessionalVerification> findApprovedByTypeAndSearch(@Param("type") com.mindcare.connect.entity.ProfessionalType type, 
                                                                @Param("search") String search, 
                                                                Pageable pageable);
+
+    // Compact directory listings (no COUNT query)
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
+    @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = 'APPROVED' ORDER BY pv.verifiedAt DESC")
+    Slice<ProfessionalVerification> findApprovedProfessionalsSlice(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
+    @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = 'APPROVED' AND pv.professionalType = :type ORDER BY pv.verifiedAt DESC")
+    Slice<ProfessionalVerification> findApprovedByTypeSlice(@Param("type") com.mindcare.connect.entity.ProfessionalType type, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
+    @Query("SELECT pv FROM ProfessionalVerification pv JOIN pv.user u WHERE pv.status = 'APPROVED' AND " +
+           "(LOWER(u.firstName) LIKE %:search% OR LOWER(u.lastName) LIKE %:search% OR " +
+           "LOWER(pv.specialization) LIKE %:search% OR LOWER(pv.degreeInstitution) LIKE %:search%) " +
+           "ORDER BY pv.verifiedAt DESC")
+    Slice<ProfessionalVerification> findApprovedBySearchSlice(@Param("search") String search, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.SEARCH))
+    @Query("SELECT pv FROM ProfessionalVerification pv JOIN pv.user u WHERE pv.status = 'APPROVED' AND " +
+           "pv.professionalType = :type AND " +
+           "(LOWER(u.firstName) LIKE %:search% OR LOWER(u.lastName) LIKE %:search% OR " +
+           "LOWER(pv.specialization) LIKE %:search% OR LOWER(pv.degreeInstitution) LIKE %:search%) " +
+           "ORDER BY pv.verifiedAt DESC")
+    Slice<ProfessionalVerification> findApprovedByTypeAndSearchSlice(@Param("type") com.mindcare.connect.entity.ProfessionalType type,
+                                                                     @Param("search") String search,
+                                                                     Pageable pageable);
+
+    // Bulk review: the columns a bulk transition needs, without loading entities
+    interface TransitionCandidate {
+        Long getId();
+        Long getUserId();
+        VerificationStatus getStatus();
+        ProfessionalType getProfessionalType();
+        LocalDateTime getCreatedAt();
+        Long getLeasedByAdminId();
+        LocalDateTime getLeaseExpiresAt();
+        String getBmdcNumber();
+    }
+
+    // Locked in id order, so the chunk's decision applies to exactly the rows it was computed from
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pv.id AS id, pv.user.id AS userId, pv.status AS status, " +
+           "pv.professionalType AS professionalType, pv.createdAt AS createdAt, " +
+           "pv.leasedByAdminId AS leasedByAdminId, pv.leaseExpiresAt AS leaseExpiresAt, " +
+           "pv.bmdcNumber AS bmdcNumber " +
+           "FROM ProfessionalVerification pv WHERE pv.id IN :ids ORDER BY pv.id")
+    List<TransitionCandidate> findTransitionCandidatesForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT pv.bmdcNumber FROM ProfessionalVerification pv WHERE pv.id IN :ids AND pv.bmdcNumber IS NOT NULL")
+    List<String> findBmdcNumbersByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT pv.bmdcNumber FROM ProfessionalVerification pv WHERE pv.status = 'APPROVED' AND " +
+           "pv.bmdcNumber IN :bmdcNumbers")
+    List<String> findApprovedBmdcNumbers(@Param("bmdcNumbers") Collection<String> bmdcNumbers);
+
+    @Query("SELECT pv.id FROM ProfessionalVerification pv WHERE pv.status = :status AND " +
+           "(:type IS NULL OR pv.professionalType = :type) AND " +
+           "(:minConfidence IS NULL OR pv.aiConfidenceScore >= :minConfidence) " +
+           "ORDER BY pv.createdAt ASC")
+    List<Long> findIdsForBulkAction(@Param("status") VerificationStatus status,
+                                    @Param("type") ProfessionalType type,
+                                    @Param("minConfidence") Double minConfidence,
+                                    Pageable pageable);
+
+    // Decided applications whose last change is older than the archive cutoff
+    @Query("SELECT pv.id FROM ProfessionalVerification pv WHERE pv.status IN :statuses AND " +
+           "COALESCE(pv.verifiedAt, pv.updatedAt, pv.createdAt) < :cutoff ORDER BY pv.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<VerificationStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    // Auto-approval candidates: pending, above the stored confidence and not claimed by an admin
+    @Query("SELECT pv.id FROM ProfessionalVerification pv WHERE pv.status = 'PENDING' AND " +
+           "pv.professionalType = :type AND pv.aiConfidenceScore >= :minConfidence AND " +
+           "(pv.leasedByAdminId IS NULL OR pv.leaseExpiresAt < :now) " +
+           "ORDER BY pv.createdAt ASC")
+    List<Long> findAutoApprovalCandidates(@Param("type") ProfessionalType type,
+                                          @Param("minConfidence") Double minConfidence,
+                                          @Param("now") LocalDateTime now,
+                                          Pageable pageable);
+
+    // Set-based decision; the status and lease guards make rows changed or claimed concurrently fall out of the update
+    @Modifying
+    @Query("UPDATE ProfessionalVerification pv SET pv.status = :to, pv.verifiedByAdminId = :adminId, " +
+           "pv.verifiedAt = :now, pv.adminNotes = :notes, pv.rejectionReason = :reason, pv.updatedAt = :now, " +
+           "pv.leasedByAdminId = NULL, pv.leaseExpiresAt = NULL, pv.version = pv.version + 1 " +
+           "WHERE pv.id IN :ids AND pv.status IN :from AND " +
+           "(pv.leasedByAdminId IS NULL OR pv.leasedByAdminId = :adminId OR pv.leaseExpiresAt < :now)")
+    int applyTransition(@Param("ids") Collection<Long> ids,
+                        @Param("from") Collection<VerificationStatus> from,
+                        @Param("to") VerificationStatus to,
+                        @Param("adminId") Long adminId,
+                        @Param("notes") String notes,
+                        @Param("reason") String reason,
+                        @Param("now") LocalDateTime now);
+
+    // Priority queue view (served by idx_pv_status_priority_created_at)
+    @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = 'PENDING' " +
+           "ORDER BY pv.reviewPriority ASC, pv.createdAt ASC")
+    Slice<ProfessionalVerification> findPriorityQueue(Pageable pageable);
+
+    // Starvation protection: pending applications older than the SLA move to the overdue class
+    @Modifying
+    @Query("UPDATE ProfessionalVerification pv SET pv.reviewPriority = :overdue WHERE pv.status = 'PENDING' AND " +
+           "pv.reviewPriority <> :overdue AND pv.createdAt < :cutoff")
+    int escalateOverdue(@Param("overdue") int overdue, @Param("cutoff") LocalDateTime cutoff);
+
+    // Review leases: next unclaimed pending applications in priority order. The lock timeout
+    // of -2 is SKIP LOCKED, so concurrent claims pass over rows another admin is claiming.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.status = 'PENDING' AND " +
+           "(pv.leasedByAdminId IS NULL OR pv.leaseExpiresAt < :now) ORDER BY pv.reviewPriority ASC, pv.createdAt ASC")
+    List<ProfessionalVerification> findClaimable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT pv FROM ProfessionalVerification pv WHERE pv.leasedByAdminId = :adminId AND " +
+           "pv.leaseExpiresAt >= :now AND pv.status = 'PENDING' ORDER BY pv.reviewPriority ASC, pv.createdAt ASC")
+    List<ProfessionalVerification> findActiveLeases(@Param("adminId") Long adminId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ProfessionalVerification pv SET pv.leasedByAdminId = NULL, pv.leaseExpiresAt = NULL, " +
+           "pv.version = pv.version + 1 WHERE pv.leasedByAdminId IS NOT NULL AND pv.leaseExpiresAt < :now")
+    int releaseExpiredLeases(@Param("now") LocalDateTime now);
 }
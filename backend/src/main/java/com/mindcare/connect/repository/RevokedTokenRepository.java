@@ -0,0 +1,26 @@
+package com.mindcare.connect.repository;
+
+import com.mindcare.connect.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // Revocations still in force; loaded at startup
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    // Revocations made since the last sync, including those made by other instances
+    @Query("SELECT t FROM RevokedToken t WHERE t.revokedAt > :since AND t.expiresAt > :now")
+    List<RevokedToken> findRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
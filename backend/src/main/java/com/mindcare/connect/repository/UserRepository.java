@@ -1,33 +1,57 @@
 package com.mindcare.connect.repository;
 
+import com.mindcare.connect.config.CacheRegions;
+import com.mindcare.connect.config.QueryTimeouts;
 import com.mindcare.connect.entity.Role;
 import com.mindcare.connect.entity.User;
 import com.mindcare.connect.entity.UserStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    // Resolved on every authenticated request; ids come from the query cache, entities from the users region
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USER_LOOKUPS),
+                 @QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.AUTH)})
     Optional<User> findByEmail(String email);
     
     Optional<User> findByPhone(String phone);
     
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.AUTH))
     boolean existsByEmail(String email);
     
     boolean existsByPhone(String phone);
     
+    // Set-based duplicate checks for bulk provisioning: one query per batch instead of one per row
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    @Query("SELECT u.phone FROM User u WHERE u.phone IN :phones")
+    List<String> findExistingPhones(@Param("phones") Collection<String> phones);
+    
     List<User> findByStatus(UserStatus status);
     
-    @Query("SELECT u FROM User u JOIN u.roles r WHERE r = :role")
-    List<User> findByRole(@Param("role") Role role);
+    // Role filters match the mask values containing the role's bit, so they can use idx_users_roles_mask
+    default List<User> findByRole(Role role) {
+        return findByRolesMaskIn(role.masksContaining());
+    }
+    
+    @Query("SELECT u FROM User u WHERE u.rolesMask IN :masks")
+    List<User> findByRolesMaskIn(@Param("masks") Collection<Integer> masks);
     
     @Query("SELECT u FROM User u WHERE u.emailVerified = false AND u.createdAt < :cutoffTime")
     List<User> findUnverifiedUsersOlderThan(@Param("cutoffTime") LocalDateTime cutoffTime);
@@ -35,10 +59,64 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.lockedUntil IS NOT NULL AND u.lockedUntil < :now")
     List<User> findUsersToUnlock(@Param("now") LocalDateTime now);
     
+    // Streaming variants for batch jobs (StreamingBatchProcessor): id-ordered and resumable after an id,
+    // fetched from the driver 500 rows at a time and kept out of the second-level cache.
+    // Must be consumed inside a transaction and closed.
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+                 @QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.EXPORT)})
+    @Query("SELECT u FROM User u WHERE u.status = :status AND u.id > :afterId ORDER BY u.id")
+    Stream<User> streamByStatus(@Param("status") UserStatus status, @Param("afterId") Long afterId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+                 @QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.EXPORT)})
+    @Query("SELECT u FROM User u WHERE u.rolesMask IN :masks AND u.id > :afterId ORDER BY u.id")
+    Stream<User> streamByRolesMaskIn(@Param("masks") Collection<Integer> masks, @Param("afterId") Long afterId);
+
+    default Stream<User> streamByRole(Role role, Long afterId) {
+        return streamByRolesMaskIn(role.masksContaining(), afterId);
+    }
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+                 @QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.EXPORT)})
+    @Query("SELECT u FROM User u WHERE u.emailVerified = false AND u.createdAt < :cutoffTime AND u.id > :afterId ORDER BY u.id")
+    Stream<User> streamUnverifiedUsersOlderThan(@Param("cutoffTime") LocalDateTime cutoffTime, @Param("afterId") Long afterId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+                 @QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.EXPORT)})
+    @Query("SELECT u FROM User u WHERE u.lockedUntil IS NOT NULL AND u.lockedUntil < :now AND u.id > :afterId ORDER BY u.id")
+    Stream<User> streamUsersToUnlock(@Param("now") LocalDateTime now, @Param("afterId") Long afterId);
+
+    // Never-onboarded accounts: still pending, never verified, created before the cutoff, never
+    // logged in and with no verification application
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+                 @QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.EXPORT)})
+    @Query("SELECT u FROM User u WHERE u.status = :status AND u.emailVerified = false AND u.createdAt < :cutoffTime " +
+           "AND u.lastLogin IS NULL AND u.staleFlaggedAt IS NULL " +
+           "AND NOT EXISTS (SELECT v.id FROM ProfessionalVerification v WHERE v.user = u) " +
+           "AND u.id > :afterId ORDER BY u.id")
+    Stream<User> streamStaleUnflaggedUsers(@Param("status") UserStatus status, @Param("cutoffTime") LocalDateTime cutoffTime,
+                                           @Param("afterId") Long afterId);
+
     @Modifying
     @Query("UPDATE User u SET u.loginAttempts = 0, u.lockedUntil = NULL WHERE u.lockedUntil IS NOT NULL AND u.lockedUntil < :now")
     int unlockExpiredAccounts(@Param("now") LocalDateTime now);
     
+    // Grant a role to many users in one statement: add the bit where it is not set yet
+    default int grantRole(Collection<Long> userIds, Role role) {
+        return addRoleBit(userIds, role.getBit(), role.masksContaining());
+    }
+    
+    @Modifying
+    @Query("UPDATE User u SET u.rolesMask = u.rolesMask + :bit WHERE u.id IN :userIds AND u.rolesMask NOT IN :masksWithBit")
+    int addRoleBit(@Param("userIds") Collection<Long> userIds, @Param("bit") int bit,
+                   @Param("masksWithBit") Collection<Integer> masksWithBit);
+    
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.REPORT))
     @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt >= :startDate")
     long countNewUsersAfter(@Param("startDate") LocalDateTime startDate);
 }
@@ -0,0 +1,47 @@
+package com.mindcare.connect.repository;
+
+import com.mindcare.connect.config.QueryTimeouts;
+import com.mindcare.connect.entity.ProfessionalType;
+import com.mindcare.connect.entity.RollupGranularity;
+import com.mindcare.connect.entity.VerificationActivityRollup;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface VerificationActivityRollupRepository extends JpaRepository<VerificationActivityRollup, Long> {
+
+    // Bucket row locked for an incremental update
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM VerificationActivityRollup r WHERE r.granularity = :granularity AND " +
+           "r.bucketStart = :bucketStart AND r.professionalType = :type")
+    Optional<VerificationActivityRollup> findBucketForUpdate(@Param("granularity") RollupGranularity granularity,
+                                                            @Param("bucketStart") LocalDate bucketStart,
+                                                            @Param("type") ProfessionalType type);
+
+    boolean existsByGranularityAndBucketStartAndProfessionalType(RollupGranularity granularity, LocalDate bucketStart,
+                                                                 ProfessionalType professionalType);
+
+    // Dashboard range reads (served by the unique bucket index)
+    @QueryHints(@QueryHint(name = QueryTimeouts.HINT, value = QueryTimeouts.REPORT))
+    @Query("SELECT r FROM VerificationActivityRollup r WHERE r.granularity = :granularity AND " +
+           "r.bucketStart >= :from AND r.bucketStart <= :to ORDER BY r.bucketStart ASC")
+    List<VerificationActivityRollup> findRange(@Param("granularity") RollupGranularity granularity,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    // Daily buckets that have fallen out of the retention window, oldest first
+    @Query("SELECT r FROM VerificationActivityRollup r WHERE r.granularity = 'DAY' AND r.bucketStart < :cutoff " +
+           "ORDER BY r.bucketStart ASC")
+    List<VerificationActivityRollup> findDailyBucketsBefore(@Param("cutoff") LocalDate cutoff, Pageable pageable);
+}
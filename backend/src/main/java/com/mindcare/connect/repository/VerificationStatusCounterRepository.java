@@ -0,0 +1,30 @@
+package com.mindcare.connect.repository;
+
+import com.mindcare.connect.entity.VerificationStatus;
+import com.mindcare.connect.entity.VerificationStatusCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface VerificationStatusCounterRepository extends JpaRepository<VerificationStatusCounter, VerificationStatus> {
+
+    // Atomic in-place adjustment, row lock is held only until the surrounding transaction commits
+    @Modifying
+    @Query("UPDATE VerificationStatusCounter c SET c.total = c.total + :delta, c.updatedAt = :now WHERE c.status = :status")
+    int adjust(@Param("status") VerificationStatus status,
+               @Param("delta") long delta,
+               @Param("now") LocalDateTime now);
+
+    // Reconciliation: every counter row locked in status-name order, the same order transitions adjust them
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM VerificationStatusCounter c ORDER BY c.status")
+    List<VerificationStatusCounter> findAllForUpdate();
+}
@@ -0,0 +1,235 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.entity.MaintenanceJobRun;
+import com.mindcare.connect.entity.User;
+import com.mindcare.connect.entity.UserStatus;
+import com.mindcare.connect.repository.MaintenanceJobRunRepository;
+import com.mindcare.connect.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduled housekeeping on the users table.
+ * Expired login locks are cleared, and accounts that were never onboarded are flagged
+ * (users.stale_flagged_at): registered more than max-age-days ago, never logged in,
+ * never verified and without a verification application. The flag is informational
+ * for admins; nothing is deleted, and a login clears it. Self-registered accounts stay
+ * PENDING_VERIFICATION until an admin activates them, since there is no email
+ * verification flow yet, so status alone cannot tell abandoned accounts from real ones.
+ * Each job walks its candidates through StreamingBatchProcessor, so rows are locked one
+ * short segment at a time, and every run is recorded in maintenance_job_runs and in the
+ * maintenance.job.* meters.
+ */
+@Service
+public class AccountMaintenanceService {
+    private static final Logger log = LoggerFactory.getLogger(AccountMaintenanceService.class);
+
+    public static final String UNLOCK_EXPIRED_ACCOUNTS = "unlock-expired-accounts";
+    public static final String STALE_PENDING_ACCOUNTS = "stale-pending-accounts";
+    public static final List<String> JOBS = List.of(UNLOCK_EXPIRED_ACCOUNTS, STALE_PENDING_ACCOUNTS);
+
+    private record JobResult(long processed, long affected, String summary) {}
+
+    @FunctionalInterface
+    private interface Job {
+        JobResult run(LocalDateTime now);
+    }
+
+    private final UserRepository userRepository;
+    private final MaintenanceJobRunRepository runRepository;
+    private final StreamingBatchProcessor batchProcessor;
+    private final EntityCacheService entityCacheService;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicLong> lastSuccessEpochSeconds = new ConcurrentHashMap<>();
+
+    @Value("${maintenance.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${maintenance.stale-accounts.max-age-days:30}")
+    private int staleMaxAgeDays;
+
+    @Value("${maintenance.history.retention-days:30}")
+    private int historyRetentionDays;
+
+    public AccountMaintenanceService(UserRepository userRepository,
+                                     MaintenanceJobRunRepository runRepository,
+                                     StreamingBatchProcessor batchProcessor,
+                                     EntityCacheService entityCacheService,
+                                     MeterRegistry meterRegistry,
+                                     PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.runRepository = runRepository;
+        this.batchProcessor = batchProcessor;
+        this.entityCacheService = entityCacheService;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        for (String job : JOBS) {
+            AtomicLong lastSuccess = new AtomicLong();
+            lastSuccessEpochSeconds.put(job, lastSuccess);
+            Gauge.builder("maintenance.job.last-success", lastSuccess, AtomicLong::get)
+                    .description("Epoch seconds of the last successful run (0 = none since startup)")
+                    .tag("job", job)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${maintenance.unlock.initial-delay-ms:30000}",
+               fixedDelayString = "${maintenance.unlock.interval-ms:300000}")
+    public void scheduledUnlock() {
+        runScheduled(UNLOCK_EXPIRED_ACCOUNTS);
+    }
+
+    @Scheduled(cron = "${maintenance.stale-accounts.cron:0 45 3 * * *}")
+    public void scheduledStaleAccounts() {
+        runScheduled(STALE_PENDING_ACCOUNTS);
+    }
+
+    /**
+     * Run one job now on behalf of an admin
+     */
+    public MaintenanceJobRun runNow(String jobName, Long adminId) {
+        return execute(jobName, adminId);
+    }
+
+    /**
+     * Run history, newest first, optionally for one job
+     */
+    @Transactional(readOnly = true)
+    public Page<MaintenanceJobRun> getRuns(String jobName, Pageable pageable) {
+        return jobName != null
+                ? runRepository.findByJobNameOrderByStartedAtDesc(jobName, pageable)
+                : runRepository.findAllByOrderByStartedAtDesc(pageable);
+    }
+
+    private void runScheduled(String jobName) {
+        if (runningJobs.contains(jobName)) {
+            log.debug("Skipping scheduled {}: previous run still in progress", jobName);
+            return;
+        }
+        try {
+            execute(jobName, null);
+        } catch (Exception e) {
+            log.warn("Scheduled maintenance job {} did not start: {}", jobName, e.getMessage());
+        }
+    }
+
+    private MaintenanceJobRun execute(String jobName, Long adminId) {
+        Job job = switch (jobName) {
+            case UNLOCK_EXPIRED_ACCOUNTS -> this::unlockExpiredAccounts;
+            case STALE_PENDING_ACCOUNTS -> this::processStaleAccounts;
+            default -> throw new RuntimeException("Unknown maintenance job: " + jobName);
+        };
+        if (!runningJobs.add(jobName)) {
+            throw new RuntimeException("Maintenance job " + jobName + " is already running");
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        try {
+            MaintenanceJobRun run = runRepository.save(new MaintenanceJobRun(jobName, adminId));
+            try {
+                JobResult result = job.run(LocalDateTime.now());
+                run.succeed(result.processed(), result.affected(), result.summary());
+                outcome = "succeeded";
+                lastSuccessEpochSeconds.get(jobName)
+                        .set(run.getFinishedAt().atZone(ZoneId.systemDefault()).toEpochSecond());
+                if (result.affected() > 0) {
+                    log.info("Maintenance job {} finished: {} rows processed, {}", jobName, result.processed(),
+                             result.summary());
+                }
+            } catch (Exception e) {
+                // Segments committed before the failure stay committed; the checkpoint resumes after them
+                run.fail(e.getMessage());
+                log.error("Maintenance job {} failed: {}", jobName, e.getMessage());
+            }
+            run = runRepository.save(run);
+            pruneHistory();
+            return run;
+        } finally {
+            runningJobs.remove(jobName);
+            sample.stop(Timer.builder("maintenance.job.duration")
+                    .description("Wall-clock time of account maintenance runs")
+                    .tag("job", jobName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private JobResult unlockExpiredAccounts(LocalDateTime now) {
+        AtomicLong unlocked = new AtomicLong();
+        long processed = batchProcessor.process(UNLOCK_EXPIRED_ACCOUNTS,
+                afterId -> userRepository.streamUsersToUnlock(now, afterId),
+                User::getId,
+                chunk -> {
+                    List<Long> userIds = new ArrayList<>(chunk.size());
+                    for (User user : chunk) {
+                        user.setLoginAttempts(0);
+                        user.setLockedUntil(null);
+                        userIds.add(user.getId());
+                    }
+                    entityCacheService.evictUsers(userIds);
+                    unlocked.addAndGet(chunk.size());
+                    countAfterCommit(UNLOCK_EXPIRED_ACCOUNTS, "unlocked", chunk.size());
+                },
+                chunkSize);
+        return new JobResult(processed, unlocked.get(), "unlocked=" + unlocked.get());
+    }
+
+    private JobResult processStaleAccounts(LocalDateTime now) {
+        LocalDateTime cutoff = now.minusDays(staleMaxAgeDays);
+        AtomicLong flagged = new AtomicLong();
+        long processed = batchProcessor.process(STALE_PENDING_ACCOUNTS + ":flag",
+                afterId -> userRepository.streamStaleUnflaggedUsers(UserStatus.PENDING_VERIFICATION, cutoff, afterId),
+                User::getId,
+                chunk -> {
+                    List<Long> userIds = new ArrayList<>(chunk.size());
+                    for (User user : chunk) {
+                        user.setStaleFlaggedAt(now);
+                        userIds.add(user.getId());
+                    }
+                    entityCacheService.evictUsers(userIds);
+                    flagged.addAndGet(chunk.size());
+                    countAfterCommit(STALE_PENDING_ACCOUNTS, "flagged", chunk.size());
+                },
+                chunkSize);
+
+        return new JobResult(processed, flagged.get(), "flagged=" + flagged.get());
+    }
+
+    private void pruneHistory() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(historyRetentionDays);
+            transactionTemplate.executeWithoutResult(status -> runRepository.deleteFinishedBefore(cutoff));
+        } catch (Exception e) {
+            log.warn("Failed to prune maintenance run history: {}", e.getMessage());
+        }
+    }
+
+    private void countAfterCommit(String jobName, String action, long rows) {
+        TransactionCallbacks.afterCommit(() -> meterRegistry.counter("maintenance.job.rows", "job", jobName, "action", action)
+                .increment(rows));
+    }
+}
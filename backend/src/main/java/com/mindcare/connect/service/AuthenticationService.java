@@ -0,0 +1,155 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.dto.AuthResponse;
+import com.mindcare.connect.dto.LoginRequest;
+import com.mindcare.connect.dto.RegisterRequest;
+import com.mindcare.connect.entity.User;
+import com.mindcare.connect.entity.UserStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Login and registration flows with password hashing kept off request threads and
+ * outside database transactions: the lookup and the final write each run in their
+ * own short UserService transaction, and BCrypt runs in between on the
+ * PasswordHashingService pool. The steps after a hash completes hop to the
+ * application task executor, so hashing threads never wait for a database
+ * connection. Stored hashes computed with an outdated work factor
+ * are recomputed after a successful login. Failed attempts are counted in memory by
+ * LoginAttemptTracker; the users row is only written when a lock is triggered.
+ */
+@Service
+public class AuthenticationService {
+    private static final Logger log = LoggerFactory.getLogger(AuthenticationService.class);
+
+    private final UserService userService;
+    private final PasswordHashingService hashingService;
+    private final LoginAttemptTracker attemptTracker;
+    private final RegisteredIdentityFilter registeredIdentities;
+    private final Executor databaseExecutor;
+
+    @Value("${security.lockout-minutes:30}")
+    private int lockoutMinutes;
+
+    public AuthenticationService(UserService userService,
+                                 PasswordHashingService hashingService,
+                                 LoginAttemptTracker attemptTracker,
+                                 RegisteredIdentityFilter registeredIdentities,
+                                 @Qualifier("applicationTaskExecutor") Executor databaseExecutor) {
+        this.userService = userService;
+        this.hashingService = hashingService;
+        this.attemptTracker = attemptTracker;
+        this.registeredIdentities = registeredIdentities;
+        this.databaseExecutor = databaseExecutor;
+    }
+
+    /**
+     * Register a new user; completes with an error response for invalid or duplicate registrations.
+     * Identifiers the registration filter has never seen skip the existence queries entirely, so a
+     * new user costs one insert; duplicates that slip past are caught by the unique constraints.
+     */
+    public CompletableFuture<AuthResponse> register(RegisterRequest request) {
+        // Validate request
+        if (!request.isPasswordsMatch()) {
+            return CompletableFuture.completedFuture(AuthResponse.error("Passwords do not match"));
+        }
+
+        if (!request.isTermsAgreed()) {
+            return CompletableFuture.completedFuture(AuthResponse.error("You must agree to the terms and conditions"));
+        }
+
+        // Check if user already exists, only when the filter cannot rule it out
+        if (registeredIdentities.mightContainEmail(request.getEmail()) && userService.existsByEmail(request.getEmail())) {
+            return CompletableFuture.completedFuture(AuthResponse.error("Email address is already registered"));
+        }
+
+        if (request.getPhone() != null && registeredIdentities.mightContainPhone(request.getPhone()) &&
+            userService.existsByPhone(request.getPhone())) {
+            return CompletableFuture.completedFuture(AuthResponse.error("Phone number is already registered"));
+        }
+
+        return hashingService.encode(request.getPassword()).thenApplyAsync(passwordHash -> {
+            try {
+                return userService.createUser(request, passwordHash);
+            } catch (DataIntegrityViolationException e) {
+                return AuthResponse.error(ConstraintViolations.describe(e));
+            }
+        }, databaseExecutor);
+    }
+
+    /**
+     * Authenticate by email and password; completes with an error response for rejected logins
+     */
+    public CompletableFuture<AuthResponse> login(LoginRequest request, String clientIp) {
+        if (attemptTracker.isIpBlocked(clientIp)) {
+            return CompletableFuture.completedFuture(
+                    AuthResponse.error("Too many failed login attempts. Please try again later."));
+        }
+
+        Optional<User> userOpt = userService.findForLogin(request.getEmail());
+        if (userOpt.isEmpty()) {
+            attemptTracker.recordFailure(request.getEmail(), clientIp);
+            return CompletableFuture.completedFuture(AuthResponse.error("Invalid email or password"));
+        }
+
+        User user = userOpt.get();
+
+        // Check if account is locked
+        if (user.isAccountLocked()) {
+            return CompletableFuture.completedFuture(AuthResponse.error(
+                    "Account is temporarily locked due to multiple failed login attempts. Please try again later."));
+        }
+
+        // Check if account is active
+        if (user.getStatus() != UserStatus.ACTIVE && user.getStatus() != UserStatus.PENDING_VERIFICATION) {
+            return CompletableFuture.completedFuture(AuthResponse.error("Account is suspended or banned. Please contact support."));
+        }
+
+        Long userId = user.getId();
+        String storedHash = user.getPassword();
+        return hashingService.matches(request.getPassword(), storedHash).thenComposeAsync(matched -> {
+            if (!matched) {
+                return CompletableFuture.completedFuture(failedLogin(userId, request.getEmail(), clientIp));
+            }
+            attemptTracker.reset(request.getEmail());
+            if (!hashingService.needsRehash(storedHash)) {
+                return CompletableFuture.completedFuture(userService.completeLogin(user));
+            }
+            return hashingService.encode(request.getPassword())
+                    .exceptionally(e -> {
+                        // Pool saturated: keep the old hash and upgrade on a later login
+                        log.debug("Skipping password rehash for user {}: {}", userId, e.getMessage());
+                        return null;
+                    })
+                    .thenApplyAsync(upgradedHash -> {
+                        if (upgradedHash != null) {
+                            userService.updatePasswordHash(userId, upgradedHash);
+                        }
+                        return userService.completeLogin(user);
+                    }, databaseExecutor);
+        }, databaseExecutor);
+    }
+
+    private AuthResponse failedLogin(Long userId, String email, String clientIp) {
+        int failures = attemptTracker.recordFailure(email, clientIp);
+        int maxAttempts = attemptTracker.getMaxAttemptsPerEmail();
+
+        if (failures >= maxAttempts) {
+            userService.lockAccount(userId, lockoutMinutes);
+            attemptTracker.reset(email);
+            return AuthResponse.error("Account locked due to multiple failed login attempts. Please try again in " +
+                                      lockoutMinutes + " minutes.");
+        }
+
+        int remainingAttempts = maxAttempts - failures;
+        return AuthResponse.error("Invalid email or password. " + remainingAttempts + " attempts remaining.");
+    }
+}
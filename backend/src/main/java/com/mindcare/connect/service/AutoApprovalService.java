@@ -0,0 +1,286 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.dto.AutoApprovalRunResponse;
+import com.mindcare.connect.dto.AutoApprovalRunResponse.ItemResult;
+import com.mindcare.connect.entity.AutoApprovalAudit;
+import com.mindcare.connect.entity.AutoApprovalAudit.Outcome;
+import com.mindcare.connect.entity.AutoApprovalPolicy;
+import com.mindcare.connect.entity.ProfessionalType;
+import com.mindcare.connect.entity.ProfessionalVerification;
+import com.mindcare.connect.repository.AutoApprovalAuditRepository;
+import com.mindcare.connect.repository.AutoApprovalPolicyRepository;
+import com.mindcare.connect.repository.ProfessionalVerificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Opt-in auto-approval of pending applications.
+ * Admins configure a policy per professional type; a background batch re-runs the
+ * AutoVerificationAgent on pending applications above the policy threshold and approves
+ * the ones that still qualify through the regular approval path. Every approval (or, in
+ * dry-run mode, every application that would have been approved) is written to the
+ * audit table. Nothing is approved unless verification.auto-approval.enabled is set
+ * and the policy itself is enabled and out of dry-run.
+ * A run holds the auto-approval job lock, so only one instance evaluates candidates at a
+ * time, and each live approval takes the candidate's BMDC stripe like a manual approval.
+ */
+@Service
+public class AutoApprovalService {
+    private static final Logger log = LoggerFactory.getLogger(AutoApprovalService.class);
+
+    private static final String JOB_NAME = "auto-approval";
+
+    private final AutoApprovalPolicyRepository policyRepository;
+    private final AutoApprovalAuditRepository auditRepository;
+    private final ProfessionalVerificationRepository verificationRepository;
+    private final ProfessionalVerificationService verificationService;
+    private final AutoVerificationAgent autoVerificationAgent;
+    private final JobLockService jobLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${verification.auto-approval.enabled:false}")
+    private boolean enabled;
+
+    @Value("${verification.auto-approval.min-allowed-confidence:0.90}")
+    private double minAllowedConfidence;
+
+    @Value("${verification.auto-approval.max-per-run-limit:500}")
+    private int maxPerRunLimit;
+
+    @Value("${verification.auto-approval.lock-duration-minutes:15}")
+    private long lockDurationMinutes;
+
+    public AutoApprovalService(AutoApprovalPolicyRepository policyRepository,
+                               AutoApprovalAuditRepository auditRepository,
+                               ProfessionalVerificationRepository verificationRepository,
+                               ProfessionalVerificationService verificationService,
+                               AutoVerificationAgent autoVerificationAgent,
+                               JobLockService jobLockService,
+                               PlatformTransactionManager transactionManager) {
+        this.policyRepository = policyRepository;
+        this.auditRepository = auditRepository;
+        this.verificationRepository = verificationRepository;
+        this.verificationService = verificationService;
+        this.autoVerificationAgent = autoVerificationAgent;
+        this.jobLockService = jobLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Current policy for every professional type (unsaved defaults for unconfigured types)
+     */
+    @Transactional(readOnly = true)
+    public List<AutoApprovalPolicy> getPolicies() {
+        Map<ProfessionalType, AutoApprovalPolicy> configured = policyRepository.findAll().stream()
+                .collect(Collectors.toMap(AutoApprovalPolicy::getProfessionalType, Function.identity()));
+        List<AutoApprovalPolicy> policies = new ArrayList<>();
+        for (ProfessionalType type : ProfessionalType.values()) {
+            policies.add(configured.getOrDefault(type, new AutoApprovalPolicy(type)));
+        }
+        return policies;
+    }
+
+    /**
+     * Create or update the policy for one professional type; null values keep the current setting
+     */
+    @Transactional
+    public AutoApprovalPolicy updatePolicy(ProfessionalType type, Boolean policyEnabled, Boolean dryRun,
+                                          Double minConfidence, Boolean requireReferenceMatch,
+                                          Integer maxPerRun, Long adminId) {
+        if (minConfidence != null && (minConfidence < minAllowedConfidence || minConfidence > 1.0)) {
+            throw new RuntimeException("Minimum confidence must be between " + minAllowedConfidence + " and 1.0");
+        }
+        if (maxPerRun != null && (maxPerRun <= 0 || maxPerRun > maxPerRunLimit)) {
+            throw new RuntimeException("Max per run must be between 1 and " + maxPerRunLimit);
+        }
+
+        AutoApprovalPolicy policy = policyRepository.findById(type).orElseGet(() -> new AutoApprovalPolicy(type));
+        if (policyEnabled != null) {
+            policy.setEnabled(policyEnabled);
+        }
+        if (dryRun != null) {
+            policy.setDryRun(dryRun);
+        }
+        if (minConfidence != null) {
+            policy.setMinConfidence(minConfidence);
+        }
+        if (requireReferenceMatch != null) {
+            policy.setRequireReferenceMatch(requireReferenceMatch);
+        }
+        if (maxPerRun != null) {
+            policy.setMaxPerRun(maxPerRun);
+        }
+        policy.setUpdatedByAdminId(adminId);
+        policy = policyRepository.save(policy);
+
+        log.info("Auto-approval policy for {} updated by admin {}: enabled={}, dryRun={}, minConfidence={}, " +
+                 "requireReferenceMatch={}, maxPerRun={}", type, adminId, policy.isEnabled(), policy.isDryRun(),
+                 policy.getMinConfidence(), policy.isRequireReferenceMatch(), policy.getMaxPerRun());
+        return policy;
+    }
+
+    /**
+     * Audit trail, newest first
+     */
+    @Transactional(readOnly = true)
+    public Page<AutoApprovalAudit> getAudits(Pageable pageable) {
+        return auditRepository.findAllByOrderByEvaluatedAtDesc(pageable);
+    }
+
+    /**
+     * Background batch over all enabled policies
+     */
+    @Scheduled(initialDelayString = "${verification.auto-approval.interval-ms:600000}",
+               fixedDelayString = "${verification.auto-approval.interval-ms:600000}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            run(false, null);
+        } catch (Exception e) {
+            log.warn("Scheduled auto-approval run skipped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Evaluate pending applications against the policies. A dry run evaluates every
+     * configured policy (enabled or not) and only reports what would have been approved.
+     */
+    public AutoApprovalRunResponse run(boolean dryRun, Long triggeredByAdminId) {
+        if (!dryRun && !enabled) {
+            throw new RuntimeException("Auto-approval is disabled; only dry runs are allowed");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("An auto-approval run is already in progress");
+        }
+
+        AutoApprovalRunResponse response = new AutoApprovalRunResponse(UUID.randomUUID().toString(), dryRun);
+        try (JobLockService.Held jobLock = jobLockService
+                .tryLock(JOB_NAME, Duration.ofMinutes(lockDurationMinutes))
+                .orElseThrow(() -> new RuntimeException("An auto-approval run is already in progress on another instance"))) {
+            List<AutoApprovalPolicy> policies = dryRun ? policyRepository.findAll() : policyRepository.findByEnabledTrue();
+            for (AutoApprovalPolicy policy : policies) {
+                runPolicy(policy, dryRun || policy.isDryRun(), triggeredByAdminId, response, jobLock);
+            }
+        } finally {
+            running.set(false);
+        }
+
+        response.setFinishedAt(LocalDateTime.now());
+        log.info("Auto-approval run {} ({}): {} evaluated, {} approved, {} would approve, {} skipped, {} failed",
+                 response.getRunId(), dryRun ? "dry run" : "live", response.getEvaluated(), response.getApproved(),
+                 response.getWouldApprove(), response.getSkipped(), response.getFailed());
+        return response;
+    }
+
+    private void runPolicy(AutoApprovalPolicy policy, boolean dryRun, Long triggeredByAdminId,
+                           AutoApprovalRunResponse response, JobLockService.Held jobLock) {
+        double threshold = Math.max(policy.getMinConfidence(), minAllowedConfidence);
+        int limit = Math.min(policy.getMaxPerRun(), maxPerRunLimit);
+        List<Long> candidateIds = verificationRepository.findAutoApprovalCandidates(
+                policy.getProfessionalType(), threshold, LocalDateTime.now(), PageRequest.of(0, limit));
+
+        for (Long verificationId : candidateIds) {
+            jobLock.extendIfDue();
+            // Live approvals queue on the BMDC stripe like manual ones; dry runs approve nothing
+            try (StripedLocks.Held held = dryRun ? null : verificationService.lockBmdcNumbers(
+                    verificationRepository.findBmdcNumberById(verificationId).stream().toList())) {
+                ItemResult result = transactionTemplate.execute(status -> {
+                    if (held != null) {
+                        held.releaseAfterCompletion();
+                    }
+                    return evaluate(verificationId, policy, threshold, dryRun, triggeredByAdminId, response.getRunId());
+                });
+                if (result != null) {
+                    response.addResult(result);
+                } else {
+                    response.recordSkipped();
+                }
+            } catch (Exception e) {
+                log.warn("Auto-approval of application {} failed: {}", verificationId, e.getMessage());
+                recordFailure(verificationId, policy.getProfessionalType(), threshold, dryRun, triggeredByAdminId,
+                              response.getRunId(), e.getMessage());
+                response.addResult(new ItemResult(verificationId, policy.getProfessionalType(), null,
+                                                  Outcome.FAILED, e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Re-check one candidate with fresh reference data; returns null when it no longer qualifies
+     */
+    private ItemResult evaluate(Long verificationId, AutoApprovalPolicy policy, double threshold, boolean dryRun,
+                                Long triggeredByAdminId, String runId) {
+        ProfessionalVerification verification = verificationRepository.findById(verificationId).orElse(null);
+        if (verification == null || !verification.canBeModified() ||
+            verification.isLeasedByOther(null, LocalDateTime.now())) {
+            return null;
+        }
+
+        ConfidenceResult confidence = autoVerificationAgent.calculateConfidence(verification);
+        if (confidence.getConfidence() < threshold ||
+            (policy.isRequireReferenceMatch() && confidence.getBestMatch() == null)) {
+            return null;
+        }
+
+        Outcome outcome = dryRun ? Outcome.WOULD_APPROVE : Outcome.APPROVED;
+        AutoApprovalAudit audit = new AutoApprovalAudit(runId, verification, outcome, dryRun, threshold, triggeredByAdminId);
+        audit.setConfidence(confidence.getConfidence());
+        audit.setMatchDetails(confidence.getMatchDetails());
+        if (confidence.getBestMatch() != null) {
+            audit.setReferenceProfessionalId(confidence.getBestMatch().getId());
+        }
+
+        if (!dryRun) {
+            String notes = String.format("Auto-approved by policy (confidence %s, threshold %.2f). %s",
+                                         confidence.getConfidencePercentage(), threshold, confidence.getMatchDetails());
+            verificationService.approveApplicationInTransaction(verificationId, null, notes);
+        }
+        auditRepository.save(audit);
+
+        return new ItemResult(verificationId, verification.getProfessionalType(), confidence.getConfidence(), outcome,
+                              confidence.getMatchDetails());
+    }
+
+    private void recordFailure(Long verificationId, ProfessionalType type, double threshold, boolean dryRun,
+                               Long triggeredByAdminId, String runId, String message) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                AutoApprovalAudit audit = new AutoApprovalAudit();
+                audit.setRunId(runId);
+                audit.setVerificationId(verificationId);
+                audit.setProfessionalType(type);
+                audit.setOutcome(Outcome.FAILED);
+                audit.setDryRun(dryRun);
+                audit.setThreshold(threshold);
+                audit.setTriggeredByAdminId(triggeredByAdminId);
+                audit.setMatchDetails(message);
+                audit.setEvaluatedAt(LocalDateTime.now());
+                auditRepository.save(audit);
+            });
+        } catch (Exception e) {
+            log.error("Failed to write auto-approval audit for application {}: {}", verificationId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.dto.BulkVerificationRequest;
+import com.mindcare.connect.dto.BulkVerificationResponse;
+import com.mindcare.connect.dto.BulkVerificationResponse.ItemResult;
+import com.mindcare.connect.dto.BulkVerificationResponse.Outcome;
+import com.mindcare.connect.entity.Role;
+import com.mindcare.connect.entity.VerificationStatus;
+import com.mindcare.connect.repository.ProfessionalVerificationRepository;
+import com.mindcare.connect.repository.ProfessionalVerificationRepository.TransitionCandidate;
+import com.mindcare.connect.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk approve/reject for admin queues.
+ * Targets are processed in chunks, each in its own transaction: one locking projection
+ * read, one set-based status update and, for approvals, one statement granting the
+ * PROFESSIONAL role to every affected user. Approvals take the same BMDC number stripes
+ * as single approvals and skip applications whose BMDC number is already approved or
+ * repeated in the chunk. A failing chunk is reported per item and does not roll back
+ * the chunks before it; one that still loses a unique-index race is retried item by item.
+ */
+@Service
+public class BulkVerificationService {
+    private static final Logger log = LoggerFactory.getLogger(BulkVerificationService.class);
+
+    private static final Set<VerificationStatus> MODIFIABLE_STATUSES =
+            EnumSet.of(VerificationStatus.PENDING, VerificationStatus.UNDER_REVIEW);
+
+    private final ProfessionalVerificationRepository verificationRepository;
+    private final ProfessionalVerificationService verificationService;
+    private final UserRepository userRepository;
+    private final VerificationStatisticsService statisticsService;
+    private final VerificationAnalyticsService analyticsService;
+    private final EntityCacheService entityCacheService;
+    private final UserAuthStateCache authStateCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${verification.bulk.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${verification.bulk.max-items:1000}")
+    private int maxItems;
+
+    public BulkVerificationService(ProfessionalVerificationRepository verificationRepository,
+                                   ProfessionalVerificationService verificationService,
+                                   UserRepository userRepository,
+                                   VerificationStatisticsService statisticsService,
+                                   VerificationAnalyticsService analyticsService,
+                                   EntityCacheService entityCacheService,
+                                   UserAuthStateCache authStateCache,
+                                   PlatformTransactionManager transactionManager) {
+        this.verificationRepository = verificationRepository;
+        this.verificationService = verificationService;
+        this.userRepository = userRepository;
+        this.statisticsService = statisticsService;
+        this.analyticsService = analyticsService;
+        this.entityCacheService = entityCacheService;
+        this.authStateCache = authStateCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Apply an approve/reject decision to every targeted application
+     */
+    public BulkVerificationResponse apply(BulkVerificationRequest request, Long adminId) {
+        if (request.getAction() == null) {
+            throw new RuntimeException("Bulk action is required");
+        }
+        if (request.getAction() == BulkVerificationRequest.Action.REJECT &&
+            (request.getReason() == null || request.getReason().trim().isEmpty())) {
+            throw new RuntimeException("Rejection reason is required");
+        }
+
+        List<Long> targetIds = resolveTargets(request);
+        BulkVerificationResponse response = new BulkVerificationResponse(request.getAction());
+        response.setRequested(targetIds.size());
+
+        for (int start = 0; start < targetIds.size(); start += chunkSize) {
+            List<Long> chunk = targetIds.subList(start, Math.min(start + chunkSize, targetIds.size()));
+            try {
+                runChunk(chunk, request, adminId).forEach(response::addResult);
+            } catch (DataIntegrityViolationException e) {
+                // Lost a race on a unique index (e.g. an approval on another instance); settle the chunk item by item
+                log.warn("Bulk {} chunk of {} applications hit {}, retrying one by one", request.getAction(), chunk.size(),
+                         ConstraintViolations.describe(e));
+                for (Long id : chunk) {
+                    runChunkOrFail(List.of(id), request, adminId, response);
+                }
+            } catch (Exception e) {
+                recordFailure(chunk, request, e, response);
+            }
+        }
+
+        log.info("Bulk {} by admin {}: {} requested, {} applied, {} skipped, {} failed", request.getAction(), adminId,
+                 response.getRequested(), response.getApplied(), response.getSkipped(), response.getFailed());
+        return response;
+    }
+
+    private List<Long> resolveTargets(BulkVerificationRequest request) {
+        if (request.hasIds()) {
+            List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+            if (ids.size() > maxItems) {
+                throw new RuntimeException("Too many applications in one bulk request (max " + maxItems + ")");
+            }
+            return ids;
+        }
+
+        if (request.getStatus() == null) {
+            throw new RuntimeException("Either ids or a status filter is required");
+        }
+        int limit = request.getLimit() != null ? Math.min(request.getLimit(), maxItems) : maxItems;
+        if (limit <= 0) {
+            throw new RuntimeException("Limit must be positive");
+        }
+        return verificationRepository.findIdsForBulkAction(request.getStatus(), request.getProfessionalType(),
+                                                           request.getMinConfidence(), PageRequest.of(0, limit));
+    }
+
+    private void runChunkOrFail(List<Long> ids, BulkVerificationRequest request, Long adminId,
+                                BulkVerificationResponse response) {
+        try {
+            runChunk(ids, request, adminId).forEach(response::addResult);
+        } catch (Exception e) {
+            recordFailure(ids, request, e, response);
+        }
+    }
+
+    private void recordFailure(List<Long> ids, BulkVerificationRequest request, Exception e,
+                               BulkVerificationResponse response) {
+        String message = e instanceof DataIntegrityViolationException violation
+                ? ConstraintViolations.describe(violation) : e.getMessage();
+        log.error("Bulk {} failed for chunk of {} applications: {}", request.getAction(), ids.size(), message);
+        for (Long id : ids) {
+            response.addResult(new ItemResult(id, null, null, null, Outcome.FAILED, message));
+        }
+    }
+
+    private List<ItemResult> runChunk(List<Long> ids, BulkVerificationRequest request, Long adminId) {
+        if (request.getAction() != BulkVerificationRequest.Action.APPROVE) {
+            return transactionTemplate.execute(status -> applyChunk(ids, request, adminId));
+        }
+        // Approvals queue on the same BMDC number stripes as single approvals, before the transaction opens
+        List<String> bmdcNumbers = verificationRepository.findBmdcNumbersByIds(ids);
+        try (StripedLocks.Held held = verificationService.lockBmdcNumbers(bmdcNumbers)) {
+            return transactionTemplate.execute(status -> {
+                held.releaseAfterCompletion();
+                return applyChunk(ids, request, adminId);
+            });
+        }
+    }
+
+    private List<ItemResult> applyChunk(List<Long> ids, BulkVerificationRequest request, Long adminId) {
+        boolean approve = request.getAction() == BulkVerificationRequest.Action.APPROVE;
+        VerificationStatus target = approve ? VerificationStatus.APPROVED : VerificationStatus.REJECTED;
+        // Truncated so the value round-trips exactly through TIMESTAMP(6) columns
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        String notes = request.getNotes() != null ? request.getNotes()
+                : approve ? "Approved by admin (bulk)" : "";
+
+        // The rows stay locked until commit, so the update below changes exactly the eligible ones
+        Map<Long, TransitionCandidate> candidates = verificationRepository.findTransitionCandidatesForUpdate(ids).stream()
+                .collect(Collectors.toMap(TransitionCandidate::getId, Function.identity()));
+
+        Set<Long> eligible = new LinkedHashSet<>();
+        for (Long id : ids) {
+            TransitionCandidate candidate = candidates.get(id);
+            if (candidate != null && MODIFIABLE_STATUSES.contains(candidate.getStatus()) &&
+                !isLeasedByOther(candidate, adminId, now)) {
+                eligible.add(id);
+            }
+        }
+
+        // A BMDC number that is already approved, or repeated in this chunk, would violate
+        // uq_pv_approved_bmdc_number and roll back the whole chunk; the first occurrence wins
+        Set<Long> bmdcConflicts = new HashSet<>();
+        if (approve) {
+            Set<String> bmdcNumbers = eligible.stream()
+                    .map(id -> candidates.get(id).getBmdcNumber())
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Set<String> taken = bmdcNumbers.isEmpty()
+                    ? new HashSet<>() : new HashSet<>(verificationRepository.findApprovedBmdcNumbers(bmdcNumbers));
+            for (Long id : eligible) {
+                String bmdcNumber = candidates.get(id).getBmdcNumber();
+                if (bmdcNumber != null && !taken.add(bmdcNumber)) {
+                    bmdcConflicts.add(id);
+                }
+            }
+            eligible.removeAll(bmdcConflicts);
+        }
+
+        if (!eligible.isEmpty()) {
+            int updated = verificationRepository.applyTransition(eligible, MODIFIABLE_STATUSES, target, adminId, notes,
+                                                                 approve ? null : request.getReason(), now);
+            if (updated != eligible.size()) {
+                throw new RuntimeException("Bulk update changed " + updated + " of " + eligible.size() +
+                                           " locked applications");
+            }
+        }
+
+        List<ItemResult> results = new ArrayList<>(ids.size());
+        Map<VerificationStatus, Long> transitionsFrom = new EnumMap<>(VerificationStatus.class);
+        Set<Long> userIds = new HashSet<>();
+        for (Long id : ids) {
+            TransitionCandidate candidate = candidates.get(id);
+            if (candidate == null) {
+                results.add(new ItemResult(id, null, null, null, Outcome.NOT_FOUND, "Verification application not found"));
+            } else if (eligible.contains(id)) {
+                results.add(new ItemResult(id, candidate.getUserId(), candidate.getStatus(), target, Outcome.APPLIED, null));
+                transitionsFrom.merge(candidate.getStatus(), 1L, Long::sum);
+                userIds.add(candidate.getUserId());
+                analyticsService.recordDecision(candidate.getProfessionalType(), target, candidate.getCreatedAt(), now);
+            } else if (MODIFIABLE_STATUSES.contains(candidate.getStatus()) && isLeasedByOther(candidate, adminId, now)) {
+                results.add(new ItemResult(id, candidate.getUserId(), candidate.getStatus(), null, Outcome.SKIPPED,
+                                           "Application is claimed by another admin"));
+            } else if (bmdcConflicts.contains(id)) {
+                results.add(new ItemResult(id, candidate.getUserId(), candidate.getStatus(), null, Outcome.SKIPPED,
+                                           "BMDC number already registered by another professional"));
+            } else {
+                results.add(new ItemResult(id, candidate.getUserId(), candidate.getStatus(), null, Outcome.SKIPPED,
+                                           "Application cannot be modified in current status: " + candidate.getStatus()));
+            }
+        }
+
+        Map<VerificationStatus, Long> deltas = new EnumMap<>(VerificationStatus.class);
+        transitionsFrom.forEach((from, count) -> {
+            deltas.merge(from, -count, Long::sum);
+            deltas.merge(target, count, Long::sum);
+        });
+        statisticsService.adjust(deltas);
+
+        if (approve && !userIds.isEmpty()) {
+            // Add PROFESSIONAL role to every approved user (keeping existing roles - Integrity Pact)
+            userRepository.grantRole(userIds, Role.PROFESSIONAL);
+            entityCacheService.evictUsers(userIds);
+            authStateCache.invalidateAll(userIds);
+        }
+
+        return results;
+    }
+
+    private boolean isLeasedByOther(TransitionCandidate candidate, Long adminId, LocalDateTime now) {
+        return candidate.getLeasedByAdminId() != null && !candidate.getLeasedByAdminId().equals(adminId) &&
+               candidate.getLeaseExpiresAt() != null && candidate.getLeaseExpiresAt().isAfter(now);
+    }
+}
@@ -0,0 +1,69 @@
+package com.mindcare.connect.service;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Maps database unique-constraint violations to the same domain errors the
+ * services raise from their own pre-checks, so a request that loses a race
+ * gets the message it would have got had it arrived second.
+ */
+public final class ConstraintViolations {
+
+    private static final Map<String, String> MESSAGES = Map.of(
+            "uq_pv_user_live", "You already have a pending verification application",
+            "uq_pv_approved_bmdc_number", "BMDC number already registered by another professional",
+            "uk_users_email", "Email address is already registered",
+            "uk_users_phone", "Phone number is already registered"
+    );
+
+    private ConstraintViolations() {}
+
+    /**
+     * Domain error for a known constraint, otherwise the most specific database message
+     */
+    public static RuntimeException translate(DataIntegrityViolationException e) {
+        return new RuntimeException(describe(e));
+    }
+
+    public static String describe(DataIntegrityViolationException e) {
+        String constraintName = constraintName(e);
+        if (constraintName != null) {
+            String message = MESSAGES.get(constraintName.toLowerCase(Locale.ROOT));
+            if (message != null) {
+                return message;
+            }
+        }
+        return e.getMostSpecificCause().getMessage();
+    }
+
+    private static String constraintName(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof org.hibernate.exception.ConstraintViolationException violation &&
+                violation.getConstraintName() != null) {
+                String known = knownName(violation.getConstraintName());
+                if (known != null) {
+                    return known;
+                }
+            }
+        }
+        // Fall back to the driver message, which names the index for unique violations
+        return knownName(e.getMostSpecificCause().getMessage());
+    }
+
+    // Some drivers decorate the name (H2 reports e.g. UK_USERS_EMAIL_INDEX_4)
+    private static String knownName(String text) {
+        if (text == null) {
+            return null;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (String name : MESSAGES.keySet()) {
+            if (lower.contains(name)) {
+                return name;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,133 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.config.CacheRegions;
+import com.mindcare.connect.dto.CacheStatisticsResponse;
+import com.mindcare.connect.entity.PreApprovedProfessional;
+import com.mindcare.connect.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * Explicit eviction and statistics for the Hibernate second-level cache.
+ * Writes made through the persistence context keep the READ_WRITE regions coherent on
+ * their own; eviction is needed after bulk JPQL, native or JDBC writes that bypass it.
+ */
+@Service
+public class EntityCacheService {
+    private static final Logger log = LoggerFactory.getLogger(EntityCacheService.class);
+
+    private final SessionFactory sessionFactory;
+
+    public EntityCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * Evict one user once the current transaction commits
+     */
+    public void evictUser(Long userId) {
+        TransactionCallbacks.afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(User.class, userId);
+            cache.evictQueryRegion(CacheRegions.USER_LOOKUPS);
+        });
+    }
+
+    /**
+     * Evict several users once the current transaction commits
+     */
+    public void evictUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            for (Long userId : userIds) {
+                cache.evictEntityData(User.class, userId);
+            }
+            cache.evictQueryRegion(CacheRegions.USER_LOOKUPS);
+        });
+    }
+
+    /**
+     * Evict every cached user, e.g. after a bulk update of the users table
+     */
+    public void evictAllUsers() {
+        TransactionCallbacks.afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(User.class);
+            cache.evictQueryRegion(CacheRegions.USER_LOOKUPS);
+        });
+    }
+
+    /**
+     * Evict cached email lookups after users were inserted outside Hibernate
+     */
+    public void evictUserLookups() {
+        TransactionCallbacks.afterCommit(() -> sessionFactory.getCache().evictQueryRegion(CacheRegions.USER_LOOKUPS));
+    }
+
+    /**
+     * Evict the pre-approved reference list after it has been rewritten
+     */
+    public void evictPreApprovedProfessionals() {
+        TransactionCallbacks.afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(PreApprovedProfessional.class);
+            cache.evictQueryRegion(CacheRegions.PRE_APPROVED_LOOKUPS);
+        });
+    }
+
+    /**
+     * Drop every region immediately
+     */
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+        log.info("Evicted all second-level cache regions");
+    }
+
+    /**
+     * Hit, miss and statement counters since startup (zero unless hibernate.generate_statistics is on)
+     */
+    public CacheStatisticsResponse getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+
+        CacheStatisticsResponse response = new CacheStatisticsResponse();
+        response.setSecondLevelCacheHits(statistics.getSecondLevelCacheHitCount());
+        response.setSecondLevelCacheMisses(statistics.getSecondLevelCacheMissCount());
+        response.setSecondLevelCachePuts(statistics.getSecondLevelCachePutCount());
+        response.setQueryCacheHits(statistics.getQueryCacheHitCount());
+        response.setQueryCacheMisses(statistics.getQueryCacheMissCount());
+        response.setQueryCachePuts(statistics.getQueryCachePutCount());
+        response.setQueryExecutions(statistics.getQueryExecutionCount());
+        response.setPreparedStatements(statistics.getPrepareStatementCount());
+        response.setSessionsOpened(statistics.getSessionOpenCount());
+        response.setStatementsPerSession(statistics.getSessionOpenCount() > 0
+                ? statistics.getPrepareStatementCount() / (double) statistics.getSessionOpenCount() : 0.0);
+
+        for (String region : CacheRegions.DOMAIN_REGIONS) {
+            addRegion(response, region, statistics.getDomainDataRegionStatistics(region));
+        }
+        for (String region : CacheRegions.QUERY_REGIONS) {
+            addRegion(response, region, statistics.getQueryRegionStatistics(region));
+        }
+        return response;
+    }
+
+    private void addRegion(CacheStatisticsResponse response, String name, CacheRegionStatistics region) {
+        if (region == null) {
+            return;
+        }
+        response.getRegions().add(new CacheStatisticsResponse.Region(
+                name, region.getHitCount(), region.getMissCount(), region.getPutCount(),
+                region.getElementCountInMemory()));
+    }
+}
@@ -0,0 +1,133 @@
+package com.mindcare.connect.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for expiring entries at a known instant. Each level has
+ * a fixed number of slots; level 0 slots span one tick and every higher level's slot
+ * spans a full rotation of the level below. Adding an entry and expiring one are O(1);
+ * entries cascade down a level when their higher-level slot comes due. Entries
+ * further out than the top level wait in an overflow list that is re-examined once
+ * per top-level slot. Expiry is rounded up to the next tick, never early.
+ * Not thread-safe: callers synchronize.
+ */
+public class ExpiryWheel<T> {
+
+    private record Entry<T>(T value, long expiresAtMs) {}
+
+    private final long[] slotSpans;
+    private final List<Entry<T>>[][] levels;
+    private final List<Entry<T>> overflow = new ArrayList<>();
+    private long currentTimeMs;
+    private int size;
+
+    /**
+     * @param tickMs      granularity of level 0
+     * @param wheelSizes  slot count per level, lowest level first (e.g. 60, 60, 24 for seconds, minutes, hours)
+     * @param startTimeMs current time
+     */
+    @SuppressWarnings("unchecked")
+    public ExpiryWheel(long tickMs, int[] wheelSizes, long startTimeMs) {
+        if (tickMs <= 0 || wheelSizes.length == 0) {
+            throw new IllegalArgumentException("Tick and at least one wheel level are required");
+        }
+        this.slotSpans = new long[wheelSizes.length];
+        this.levels = new List[wheelSizes.length][];
+        long span = tickMs;
+        for (int level = 0; level < wheelSizes.length; level++) {
+            slotSpans[level] = span;
+            levels[level] = new List[wheelSizes[level]];
+            for (int slot = 0; slot < wheelSizes[level]; slot++) {
+                levels[level][slot] = new ArrayList<>();
+            }
+            span *= wheelSizes[level];
+        }
+        this.currentTimeMs = startTimeMs - Math.floorMod(startTimeMs, tickMs);
+    }
+
+    /**
+     * Schedule a value to expire at the given instant; returns false if that instant has already passed
+     */
+    public boolean add(T value, long expiresAtMs) {
+        if (!place(new Entry<>(value, expiresAtMs))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Move the wheel forward to now, handing every value that has expired to the callback
+     */
+    public void advance(long nowMs, Consumer<T> onExpire) {
+        long tickMs = slotSpans[0];
+        while (currentTimeMs + tickMs <= nowMs) {
+            currentTimeMs += tickMs;
+
+            // Cascade higher levels whose slot boundary was reached, top level first
+            for (int level = levels.length - 1; level >= 1; level--) {
+                if (currentTimeMs % slotSpans[level] == 0) {
+                    if (level == levels.length - 1) {
+                        reinsert(overflow, onExpire);
+                    }
+                    reinsert(slotFor(level, currentTimeMs), onExpire);
+                }
+            }
+
+            List<Entry<T>> due = slotFor(0, currentTimeMs);
+            if (!due.isEmpty()) {
+                List<Entry<T>> expired = new ArrayList<>(due);
+                due.clear();
+                for (Entry<T> entry : expired) {
+                    size--;
+                    onExpire.accept(entry.value());
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void reinsert(List<Entry<T>> slot, Consumer<T> onExpire) {
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<Entry<T>> entries = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry<T> entry : entries) {
+            if (!place(entry)) {
+                size--;
+                onExpire.accept(entry.value());
+            }
+        }
+    }
+
+    private boolean place(Entry<T> entry) {
+        long tickMs = slotSpans[0];
+        // Round up so an entry is never released before its expiry
+        long dueAt = Math.floorDiv(entry.expiresAtMs() + tickMs - 1, tickMs) * tickMs;
+        if (dueAt <= currentTimeMs) {
+            return false;
+        }
+
+        for (int level = 0; level < levels.length; level++) {
+            long rotation = slotSpans[level] * levels[level].length;
+            long boundary = level == 0 ? dueAt : dueAt - Math.floorMod(dueAt, slotSpans[level]);
+            if (boundary > currentTimeMs && boundary - currentTimeMs < rotation) {
+                slotFor(level, boundary).add(entry);
+                return true;
+            }
+        }
+        overflow.add(entry);
+        return true;
+    }
+
+    private List<Entry<T>> slotFor(int level, long timeMs) {
+        List<Entry<T>>[] slots = levels[level];
+        return slots[(int) Math.floorMod(timeMs / slotSpans[level], (long) slots.length)];
+    }
+}
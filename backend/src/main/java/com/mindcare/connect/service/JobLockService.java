@@ -0,0 +1,104 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.entity.JobLock;
+import com.mindcare.connect.repository.JobLockRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cluster-wide job locks kept as rows in job_locks. Acquiring, extending and releasing
+ * are single short transactions, so a long run does not hold a pooled connection the way
+ * a session advisory lock would; instead the holder extends the lock while it works, and
+ * a crashed holder's lock expires after its duration.
+ */
+@Service
+public class JobLockService {
+    private static final Logger log = LoggerFactory.getLogger(JobLockService.class);
+
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JobLockService(JobLockRepository jobLockRepository, PlatformTransactionManager transactionManager) {
+        this.jobLockRepository = jobLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Take the lock for a job, or return empty when another holder has it and it has not expired
+     */
+    public Optional<Held> tryLock(String jobName, Duration duration) {
+        String owner = UUID.randomUUID().toString();
+        if (acquire(jobName, owner, duration)) {
+            return Optional.of(new Held(jobName, owner, duration));
+        }
+        if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> jobLockRepository.existsById(jobName)))) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jobLockRepository.save(new JobLock(jobName)));
+            } catch (DataIntegrityViolationException e) {
+                // Another instance created the row first; the acquire below competes for it
+            }
+            if (acquire(jobName, owner, duration)) {
+                return Optional.of(new Held(jobName, owner, duration));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean acquire(String jobName, String owner, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status ->
+                jobLockRepository.acquire(jobName, owner, now, now.plus(duration)));
+        return updated != null && updated == 1;
+    }
+
+    /**
+     * A held job lock. Call extendIfDue() between units of work and close() when done.
+     */
+    public class Held implements AutoCloseable {
+        private final String jobName;
+        private final String owner;
+        private final Duration duration;
+        private LocalDateTime extendAfter;
+
+        private Held(String jobName, String owner, Duration duration) {
+            this.jobName = jobName;
+            this.owner = owner;
+            this.duration = duration;
+            this.extendAfter = LocalDateTime.now().plus(duration.dividedBy(2));
+        }
+
+        /**
+         * Push the expiry out once half the duration has passed; fails if the lock was lost
+         */
+        public void extendIfDue() {
+            LocalDateTime now = LocalDateTime.now();
+            if (now.isBefore(extendAfter)) {
+                return;
+            }
+            Integer updated = transactionTemplate.execute(status ->
+                    jobLockRepository.extend(jobName, owner, now.plus(duration)));
+            if (updated == null || updated != 1) {
+                throw new RuntimeException("Lost the lock for " + jobName + "; another instance took over");
+            }
+            extendAfter = now.plus(duration.dividedBy(2));
+        }
+
+        @Override
+        public void close() {
+            try {
+                transactionTemplate.execute(status -> jobLockRepository.release(jobName, owner));
+            } catch (Exception e) {
+                log.warn("Failed to release the lock for {}; it expires on its own: {}", jobName, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.mindcare.connect.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind for successful logins. Logins only record the user's last login
+ * time in memory; a scheduled flush writes them in JDBC batches, resetting the
+ * persisted attempt counter, any expired lock and any stale-account flag in the
+ * same statement, so a login burst costs one batched update per interval instead
+ * of a row write each.
+ */
+@Service
+public class LastLoginRecorder {
+    private static final Logger log = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET last_login = ?, login_attempts = 0, stale_flagged_at = NULL, " +
+            "locked_until = CASE WHEN locked_until IS NOT NULL AND locked_until <= ? THEN NULL ELSE locked_until END " +
+            "WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheService entityCacheService;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    @Value("${security.last-login.batch-size:200}")
+    private int batchSize;
+
+    public LastLoginRecorder(JdbcTemplate jdbcTemplate, EntityCacheService entityCacheService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityCacheService = entityCacheService;
+    }
+
+    /**
+     * Remember a successful login; persisted on the next flush
+     */
+    public void record(Long userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (current, latest) -> latest.isAfter(current) ? latest : current);
+    }
+
+    /**
+     * Write pending login times in batches
+     */
+    @Scheduled(fixedDelayString = "${security.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                batch.put(userId, loginAt);
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        batch.forEach((userId, loginAt) -> {
+            Timestamp at = Timestamp.valueOf(loginAt);
+            rows.add(new Object[]{at, now, userId, at});
+        });
+
+        try {
+            for (int start = 0; start < rows.size(); start += batchSize) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, rows.subList(start, Math.min(start + batchSize, rows.size())));
+            }
+            // The JDBC update bypasses the persistence context
+            entityCacheService.evictUsers(batch.keySet());
+        } catch (Exception e) {
+            log.warn("Failed to flush {} last-login updates, retrying on next flush: {}", batch.size(), e.getMessage());
+            batch.forEach(this::record);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
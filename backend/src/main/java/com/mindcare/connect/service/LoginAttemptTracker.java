@@ -0,0 +1,150 @@
+package com.mindcare.connect.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sliding-window counts of failed logins per email and per client IP, kept in
+ * memory so that failed attempts never write the users table. Keys are spread
+ * over lock stripes, each holding a size-bounded LRU map of failure timestamps,
+ * so a credential-stuffing burst neither contends on one lock nor grows memory
+ * without bound. Counts are per instance; only a triggered lock is persisted.
+ */
+@Service
+public class LoginAttemptTracker {
+
+    private static final class Stripe {
+        private final Map<String, Deque<Long>> windows;
+
+        Stripe(int maxKeys) {
+            this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Deque<Long>> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    private final Stripe[] stripes;
+    private final long windowMillis;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerIp;
+    private final Counter failures;
+    private final Counter blockedIps;
+
+    public LoginAttemptTracker(MeterRegistry meterRegistry,
+                               @Value("${security.max-login-attempts}") int maxAttemptsPerEmail,
+                               @Value("${security.login-throttle.ip-max-attempts:20}") int maxAttemptsPerIp,
+                               @Value("${security.login-throttle.window-seconds:900}") long windowSeconds,
+                               @Value("${security.login-throttle.stripes:32}") int stripeCount,
+                               @Value("${security.login-throttle.max-keys-per-stripe:2048}") int maxKeysPerStripe) {
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.windowMillis = windowSeconds * 1000L;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+        this.failures = Counter.builder("security.login.failures")
+                .description("Failed login attempts")
+                .register(meterRegistry);
+        this.blockedIps = Counter.builder("security.login.ip-blocked")
+                .description("Login attempts refused because the client address exceeded its failure window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the client address has too many recent failures to be allowed another attempt
+     */
+    public boolean isIpBlocked(String ip) {
+        if (ip == null) {
+            return false;
+        }
+        boolean blocked = count(ipKey(ip)) >= maxAttemptsPerIp;
+        if (blocked) {
+            blockedIps.increment();
+        }
+        return blocked;
+    }
+
+    /**
+     * Record a failed attempt; returns the number of failures for the email within the window
+     */
+    public int recordFailure(String email, String ip) {
+        failures.increment();
+        if (ip != null) {
+            add(ipKey(ip));
+        }
+        return add(emailKey(email));
+    }
+
+    /**
+     * Forget the email's failures after a successful login or a persisted lock
+     */
+    public void reset(String email) {
+        String key = emailKey(email);
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.windows.remove(key);
+        }
+    }
+
+    public int getMaxAttemptsPerEmail() {
+        return maxAttemptsPerEmail;
+    }
+
+    private int add(String key) {
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Deque<Long> window = stripe.windows.computeIfAbsent(key, k -> new ArrayDeque<>());
+            prune(window, now);
+            window.addLast(now);
+            return window.size();
+        }
+    }
+
+    private int count(String key) {
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Deque<Long> window = stripe.windows.get(key);
+            if (window == null) {
+                return 0;
+            }
+            prune(window, now);
+            if (window.isEmpty()) {
+                stripe.windows.remove(key);
+                return 0;
+            }
+            return window.size();
+        }
+    }
+
+    private void prune(Deque<Long> window, long now) {
+        while (!window.isEmpty() && now - window.peekFirst() >= windowMillis) {
+            window.pollFirst();
+        }
+    }
+
+    private Stripe stripeFor(String key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + (email != null ? email.trim().toLowerCase(Locale.ROOT) : "");
+    }
+
+    private static String ipKey(String ip) {
+        return "ip:" + ip;
+    }
+}
@@ -2,6 +2,8 @@ package com.mindcare.connect.service;
 
 import com.mindcare.connect.dto.ProfessionalVerificationRequest;
 import com.mindcare.connect.dto.ProfessionalVerificationResponse;
+import com.mindcare.connect.dto.SliceResponse;
+import com.mindcare.connect.dto.VerificationStatisticsResponse;
 import com.mindcare.connect.entity.*;
 import com.mindcare.connect.repository.ProfessionalVerificationRepository;
 import com.mindcare.connect.repository.PreApprovedProfessionalRepository;
@@ -9,19 +11,32 @@ import com.mindcare.connect.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -34,137 +49,207 @@ public class ProfessionalVerificationService {
     private final PreApprovedProfessionalRepository preApprovedRepository;
     private final UserRepository userRepository;
     private final AutoVerificationAgent autoVerificationAgent;
+    private final VerificationStatisticsService statisticsService;
+    private final VerificationAnalyticsService analyticsService;
+    private final ReviewPriorityService reviewPriorityService;
+    private final VerificationArchiveService archiveService;
+    private final UserAuthStateCache authStateCache;
+    private final TransactionTemplate transactionTemplate;
+    // Serializes submissions and approvals for the same user or BMDC number within this instance
+    private final StripedLocks verificationLocks = new StripedLocks(64);
+
+    @Value("${verification.submission.lock-timeout-ms:5000}")
+    private long submissionLockTimeoutMs;
+
+    @Value("${verification.lease.duration-minutes:15}")
+    private long leaseDurationMinutes;
+
+    @Value("${verification.lease.max-claim:20}")
+    private int maxClaim;
 
     @Autowired
     public ProfessionalVerificationService(
             ProfessionalVerificationRepository verificationRepository,
             PreApprovedProfessionalRepository preApprovedRepository,
             UserRepository userRepository,
-            AutoVerificationAgent autoVerificationAgent) {
+            AutoVerificationAgent autoVerificationAgent,
+            VerificationStatisticsService statisticsService,
+            VerificationAnalyticsService analyticsService,
+            ReviewPriorityService reviewPriorityService,
+            VerificationArchiveService archiveService,
+            UserAuthStateCache authStateCache,
+            PlatformTransactionManager transactionManager) {
         this.verificationRepository = verificationRepository;
         this.preApprovedRepository = preApprovedRepository;
         this.userRepository = userRepository;
         this.autoVerificationAgent = autoVerificationAgent;
+        this.statisticsService = statisticsService;
+        this.analyticsService = analyticsService;
+        this.reviewPriorityService = reviewPriorityService;
+        this.archiveService = archiveService;
+        this.authStateCache = authStateCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Submit a professional verification application
      * Following Integrity Pact: Users start as PATIENT, then apply for PROFESSIONAL role
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProfessionalVerificationResponse submitApplication(Long userId, ProfessionalVerificationRequest request) {
         try {
-            // Find the user
-            Optional<User> userOpt = userRepository.findById(userId);
-            if (userOpt.isEmpty()) {
-                throw new RuntimeException("User not found");
+            // Queue concurrent submissions for the same user/BMDC here rather than at the unique indexes.
+            // The stripes are taken before the transaction opens, so a queued request holds no pooled
+            // connection while it waits, and are released when that transaction completes.
+            List<String> lockKeys = new ArrayList<>();
+            lockKeys.add("user:" + userId);
+            if (request.getProfessionalType() == ProfessionalType.PSYCHIATRIST && request.getBmdcNumber() != null) {
+                lockKeys.add("bmdc:" + request.getBmdcNumber().trim());
+            }
+            try (StripedLocks.Held held = verificationLocks.lock(lockKeys, submissionLockTimeoutMs)) {
+                return transactionTemplate.execute(status -> {
+                    held.releaseAfterCompletion();
+                    return createApplication(userId, request);
+                });
             }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to submit verification application: " + e.getMessage());
+        }
+    }
 
-            User user = userOpt.get();
+    private ProfessionalVerificationResponse createApplication(Long userId, ProfessionalVerificationRequest request) {
+        // Find the user
+        Optional<User> userOpt = userRepository.findById(userId);
+        if (userOpt.isEmpty()) {
+            throw new RuntimeException("User not found");
+        }
 
-            // Check if user already has a pending or approved application
-            Optional<ProfessionalVerification> existingApplication = verificationRepository.findByUserId(userId);
-            if (existingApplication.isPresent()) {
-                ProfessionalVerification existing = existingApplication.get();
-                if (existing.getStatus() == VerificationStatus.PENDING || 
-                    existing.getStatus() == VerificationStatus.UNDER_REVIEW) {
-                    throw new RuntimeException("You already have a pending verification application");
-                }
-                if (existing.getStatus() == VerificationStatus.APPROVED) {
-                    throw new RuntimeException("You are already a verified professional");
-                }
-                // If status is REJECTED or REVOKED, allow reapplication by deleting the old one
-                if (existing.getStatus() == VerificationStatus.REJECTED || 
-                    existing.getStatus() == VerificationStatus.REVOKED) {
-                    log.info("Deleting previous {} application for user {} to allow reapplication", 
-                             existing.getStatus(), userId);
-                    verificationRepository.delete(existing);
-                }
-            }
+        User user = userOpt.get();
 
-            // Validate request based on professional type
-            if (!request.isValid()) {
-                throw new RuntimeException("Invalid application data for " + request.getProfessionalType().getDisplayName());
+        // Check if user already has a pending or approved application
+        VerificationStatus superseded = null;
+        Optional<ProfessionalVerification> existingApplication = verificationRepository.findByUserId(userId);
+        if (existingApplication.isPresent()) {
+            ProfessionalVerification existing = existingApplication.get();
+            if (existing.getStatus() == VerificationStatus.PENDING || 
+                existing.getStatus() == VerificationStatus.UNDER_REVIEW) {
+                throw new RuntimeException("You already have a pending verification application");
             }
-
-            // Check for duplicate BMDC number if psychiatrist
-            if (request.getProfessionalType() == ProfessionalType.PSYCHIATRIST && 
-                request.getBmdcNumber() != null) {
-                List<ProfessionalVerification> duplicates = verificationRepository.findApprovedByBmdcNumber(request.getBmdcNumber());
-                if (!duplicates.isEmpty()) {
-                    throw new RuntimeException("BMDC number already registered by another professional");
-                }
+            if (existing.getStatus() == VerificationStatus.APPROVED) {
+                throw new RuntimeException("You are already a verified professional");
             }
-
-            // Create new verification application
-            ProfessionalVerification verification = new ProfessionalVerification(user, request.getProfessionalType(), request.getLicenseDocumentUrl());
-            
-            // Set fields based on professional type
-            if (request.getProfessionalType() == ProfessionalType.PSYCHIATRIST) {
-                verification.setBmdcNumber(request.getBmdcNumber());
-            } else if (request.getProfessionalType() == ProfessionalType.PSYCHOLOGIST) {
-                verification.setDegreeInstitution(request.getDegreeInstitution());
-                verification.setDegreeTitle(request.getDegreeTitle());
-                verification.setAffiliation(request.getAffiliation());
+            // If status is REJECTED or REVOKED, allow reapplication by archiving the old one
+            if (existing.getStatus() == VerificationStatus.REJECTED || 
+                existing.getStatus() == VerificationStatus.REVOKED) {
+                archiveService.archiveSuperseded(existing);
+                superseded = existing.getStatus();
             }
+        }
 
-            verification.setExperienceYears(request.getExperienceYears());
-            verification.setSpecialization(request.getSpecialization());
-            verification.setDegreeDocumentUrl(request.getDegreeDocumentUrl());
-            verification.setAdditionalDocumentsUrls(request.getAdditionalDocumentsUrls());
-            verification.setLanguagesSpoken(request.getLanguagesSpoken());
-            verification.setClinicAddress(request.getClinicAddress());
-            verification.setContactEmail(request.getContactEmail());
-            verification.setContactPhone(request.getContactPhone());
+        // Validate request based on professional type
+        if (!request.isValid()) {
+            throw new RuntimeException("Invalid application data for " + request.getProfessionalType().getDisplayName());
+        }
 
-            // Save the application first
-            verification = verificationRepository.save(verification);
-            log.info("Verification application saved with ID: {}", verification.getId());
-
-            // Calculate AI confidence for admin assistance
-            try {
-                ConfidenceResult confidenceResult = autoVerificationAgent.calculateConfidence(verification);
-                
-                // Update verification with AI confidence data
-                verification.updateAiConfidence(
-                    confidenceResult.getConfidence(),
-                    confidenceResult.getRecommendation(),
-                    confidenceResult.getMatchDetails()
-                );
-                
-                log.info("AI confidence calculated for application {}: {:.1f}% - {}", 
-                        verification.getId(), 
-                        confidenceResult.getConfidence() * 100,
-                        confidenceResult.getRecommendation());
-                
-                // Save with confidence data
-                verification = verificationRepository.save(verification);
-                
-            } catch (Exception e) {
-                log.error("AI confidence calculation failed for application {}: {}", verification.getId(), e.getMessage());
-                // Continue without confidence - application will be manually reviewed
-                verification.updateAiConfidence(0.0, "⚫ AI PROCESSING FAILED - Manual review required", 
-                    "Error during AI processing: " + e.getMessage());
-                verification = verificationRepository.save(verification);
+        // Check for duplicate BMDC number if psychiatrist
+        if (request.getProfessionalType() == ProfessionalType.PSYCHIATRIST && 
+            request.getBmdcNumber() != null) {
+            List<ProfessionalVerification> duplicates = verificationRepository.findApprovedByBmdcNumber(request.getBmdcNumber());
+            if (!duplicates.isEmpty()) {
+                throw new RuntimeException("BMDC number already registered by another professional");
             }
+        }
 
-            return mapToResponse(verification);
+        // Create new verification application
+        ProfessionalVerification verification = new ProfessionalVerification(user, request.getProfessionalType(), request.getLicenseDocumentUrl());
+        
+        // Set fields based on professional type
+        if (request.getProfessionalType() == ProfessionalType.PSYCHIATRIST) {
+            verification.setBmdcNumber(request.getBmdcNumber());
+        } else if (request.getProfessionalType() == ProfessionalType.PSYCHOLOGIST) {
+            verification.setDegreeInstitution(request.getDegreeInstitution());
+            verification.setDegreeTitle(request.getDegreeTitle());
+            verification.setAffiliation(request.getAffiliation());
+        }
+
+        verification.setExperienceYears(request.getExperienceYears());
+        verification.setSpecialization(request.getSpecialization());
+        verification.setDegreeDocumentUrl(request.getDegreeDocumentUrl());
+        verification.setAdditionalDocumentsUrls(request.getAdditionalDocumentsUrls());
+        verification.setLanguagesSpoken(request.getLanguagesSpoken());
+        verification.setClinicAddress(request.getClinicAddress());
+        verification.setContactEmail(request.getContactEmail());
+        verification.setContactPhone(request.getContactPhone());
 
+        // Save the application first; flush so a concurrent duplicate fails on the unique index here
+        try {
+            verification = verificationRepository.saveAndFlush(verification);
+        } catch (DataIntegrityViolationException e) {
+            throw ConstraintViolations.translate(e);
+        }
+        if (superseded != null) {
+            // One ordered adjustment for both counters, so this cannot deadlock with reconcile()
+            Map<VerificationStatus, Long> deltas = new EnumMap<>(VerificationStatus.class);
+            deltas.merge(verification.getStatus(), 1L, Long::sum);
+            deltas.merge(superseded, -1L, Long::sum);
+            statisticsService.adjust(deltas);
+        } else {
+            statisticsService.recordCreated(verification.getStatus());
+        }
+        log.info("Verification application saved with ID: {}", verification.getId());
+
+        // Calculate AI confidence for admin assistance
+        try {
+            ConfidenceResult confidenceResult = autoVerificationAgent.calculateConfidence(verification);
+            
+            // Update verification with AI confidence data
+            verification.updateAiConfidence(
+                confidenceResult.getConfidence(),
+                confidenceResult.getRecommendation(),
+                confidenceResult.getMatchDetails()
+            );
+            reviewPriorityService.assign(verification);
+            
+            log.info("AI confidence calculated for application {}: {:.1f}% - {}", 
+                    verification.getId(), 
+                    confidenceResult.getConfidence() * 100,
+                    confidenceResult.getRecommendation());
+            
+            // Save with confidence data
+            verification = verificationRepository.save(verification);
+            
         } catch (Exception e) {
-            throw new RuntimeException("Failed to submit verification application: " + e.getMessage());
+            log.error("AI confidence calculation failed for application {}: {}", verification.getId(), e.getMessage());
+            // Continue without confidence - application will be manually reviewed
+            verification.updateAiConfidence(0.0, "⚫ AI PROCESSING FAILED - Manual review required", 
+                "Error during AI processing: " + e.getMessage());
+            reviewPriorityService.assign(verification);
+            verification = verificationRepository.save(verification);
         }
+
+        analyticsService.recordSubmission(verification.getProfessionalType(), verification.getCreatedAt(),
+                                          verification.getAiConfidenceScore());
+
+        return mapToResponse(verification);
     }
 
     /**
      * Get application status for a user
      */
+    @Transactional(readOnly = true)
     public Optional<ProfessionalVerificationResponse> getApplicationStatus(Long userId) {
         Optional<ProfessionalVerification> verification = verificationRepository.findByUserId(userId);
-        return verification.map(this::mapToResponse);
+        if (verification.isPresent()) {
+            return verification.map(this::mapToResponse);
+        }
+        // Decided applications past the retention window live in the archive
+        return archiveService.getLatestForUser(userId);
     }
 
     /**
      * Get all pending applications for admin review
      */
+    @Transactional(readOnly = true)
     public List<ProfessionalVerificationResponse> getPendingApplications() {
         List<ProfessionalVerification> pending = verificationRepository.findPendingApplications();
         return pending.stream().map(this::mapToResponse).collect(Collectors.toList());
@@ -173,16 +258,62 @@ public class ProfessionalVerificationService {
     /**
      * Get paginated pending applications for admin review
      */
+    @Transactional(readOnly = true)
     public Page<ProfessionalVerificationResponse> getPendingApplications(Pageable pageable) {
         Page<ProfessionalVerification> pending = verificationRepository.findPendingApplications(pageable);
         return pending.map(this::mapToResponse);
     }
 
+    /**
+     * Compact pending list without a COUNT query; the total comes from the status counters
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<ProfessionalVerificationResponse> getPendingApplicationsSlice(Pageable pageable, boolean includeTotal) {
+        Slice<ProfessionalVerification> pending = verificationRepository.findPendingApplicationsSlice(pageable);
+        Long total = includeTotal ? statisticsService.getCount(VerificationStatus.PENDING) : null;
+        return SliceResponse.of(pending.map(this::mapToResponse), total);
+    }
+
     /**
      * Admin approves a verification application
      * Following Integrity Pact: Add PROFESSIONAL role to user (don't replace PATIENT)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProfessionalVerificationResponse approveApplication(Long verificationId, Long adminId, String notes) {
+        // Approvals of the same BMDC number queue on its stripe before the transaction opens, so the
+        // loser of a race hits the committed unique index (a clean domain error) rather than the winner's
+        // in-flight row
+        StripedLocks.Held held;
+        try {
+            held = lockBmdcNumbers(verificationRepository.findBmdcNumberById(verificationId).stream().toList());
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Failed to approve verification: " + e.getMessage());
+        }
+        try (held) {
+            return transactionTemplate.execute(status -> {
+                held.releaseAfterCompletion();
+                return approveApplicationInTransaction(verificationId, adminId, notes);
+            });
+        }
+    }
+
+    /**
+     * Take the stripes that approvals of these BMDC numbers queue on. Call before opening the
+     * approving transaction and hand the result to it with releaseAfterCompletion().
+     */
+    public StripedLocks.Held lockBmdcNumbers(Collection<String> bmdcNumbers) {
+        List<String> lockKeys = bmdcNumbers.stream()
+                .filter(Objects::nonNull)
+                .map(bmdcNumber -> "bmdc:" + bmdcNumber.trim())
+                .toList();
+        return verificationLocks.lock(lockKeys, submissionLockTimeoutMs);
+    }
+
+    /**
+     * Approve inside the caller's transaction (auto-approval records its audit row in the same one)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ProfessionalVerificationResponse approveApplicationInTransaction(Long verificationId, Long adminId, String notes) {
         try {
             Optional<ProfessionalVerification> verificationOpt = verificationRepository.findById(verificationId);
             if (verificationOpt.isEmpty()) {
@@ -195,17 +326,31 @@ public class ProfessionalVerificationService {
                 throw new RuntimeException("Application cannot be modified in current status: " + verification.getStatus());
             }
 
+            if (verification.isLeasedByOther(adminId, LocalDateTime.now())) {
+                throw new RuntimeException("Application is claimed by another admin until " + verification.getLeaseExpiresAt());
+            }
+
             // Approve the verification
+            VerificationStatus previousStatus = verification.getStatus();
             verification.approve(adminId, notes);
-            verification = verificationRepository.save(verification);
+            // Flush now so a concurrent decision surfaces as a version conflict here
+            verification = verificationRepository.saveAndFlush(verification);
+            statisticsService.recordTransition(previousStatus, verification.getStatus());
+            analyticsService.recordDecision(verification.getProfessionalType(), verification.getStatus(),
+                                            verification.getCreatedAt(), verification.getVerifiedAt());
 
             // Add PROFESSIONAL role to user (keeping existing roles - Integrity Pact)
             User user = verification.getUser();
-            user.getRoles().add(Role.PROFESSIONAL);
+            user.addRole(Role.PROFESSIONAL);
             userRepository.save(user);
+            authStateCache.invalidate(user.getId());
 
             return mapToResponse(verification);
 
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new RuntimeException("Failed to approve verification: application was modified by another admin, please reload");
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("Failed to approve verification: " + ConstraintViolations.describe(e));
         } catch (Exception e) {
             throw new RuntimeException("Failed to approve verification: " + e.getMessage());
         }
@@ -227,20 +372,98 @@ public class ProfessionalVerificationService {
                 throw new RuntimeException("Application cannot be modified in current status: " + verification.getStatus());
             }
 
+            if (verification.isLeasedByOther(adminId, LocalDateTime.now())) {
+                throw new RuntimeException("Application is claimed by another admin until " + verification.getLeaseExpiresAt());
+            }
+
             // Reject the verification
+            VerificationStatus previousStatus = verification.getStatus();
             verification.reject(adminId, reason, notes);
-            verification = verificationRepository.save(verification);
+            // Flush now so a concurrent decision surfaces as a version conflict here
+            verification = verificationRepository.saveAndFlush(verification);
+            statisticsService.recordTransition(previousStatus, verification.getStatus());
+            analyticsService.recordDecision(verification.getProfessionalType(), verification.getStatus(),
+                                            verification.getCreatedAt(), verification.getVerifiedAt());
 
             return mapToResponse(verification);
 
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new RuntimeException("Failed to reject verification: application was modified by another admin, please reload");
         } catch (Exception e) {
             throw new RuntimeException("Failed to reject verification: " + e.getMessage());
         }
     }
 
+    /**
+     * Priority-ordered pending queue: overdue first, then high, medium and low confidence,
+     * oldest first within each class
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<ProfessionalVerificationResponse> getPriorityQueue(Pageable pageable, boolean includeTotal) {
+        Slice<ProfessionalVerification> queue = verificationRepository.findPriorityQueue(pageable);
+        Long total = includeTotal ? statisticsService.getCount(VerificationStatus.PENDING) : null;
+        return SliceResponse.of(queue.map(this::mapToResponse), total);
+    }
+
+    /**
+     * Lease the next unclaimed pending applications to an admin in review priority order.
+     * Rows being claimed by other admins are skipped rather than waited on.
+     */
+    public List<ProfessionalVerificationResponse> claimNextApplications(Long adminId, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        int limit = Math.max(1, Math.min(count, maxClaim));
+
+        List<ProfessionalVerification> claimed = verificationRepository.findClaimable(now, PageRequest.of(0, limit));
+        LocalDateTime expiresAt = now.plusMinutes(leaseDurationMinutes);
+        for (ProfessionalVerification verification : claimed) {
+            verification.lease(adminId, expiresAt);
+        }
+        verificationRepository.saveAll(claimed);
+
+        log.info("Admin {} claimed {} applications until {}", adminId, claimed.size(), expiresAt);
+        return claimed.stream().map(this::mapToResponse).collect(Collectors.toList());
+    }
+
+    /**
+     * Applications currently leased to an admin
+     */
+    @Transactional(readOnly = true)
+    public List<ProfessionalVerificationResponse> getClaimedApplications(Long adminId) {
+        return verificationRepository.findActiveLeases(adminId, LocalDateTime.now()).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Give a leased application back to the queue
+     */
+    public ProfessionalVerificationResponse releaseApplication(Long verificationId, Long adminId) {
+        ProfessionalVerification verification = verificationRepository.findById(verificationId)
+                .orElseThrow(() -> new RuntimeException("Verification application not found"));
+
+        if (verification.isLeasedByOther(adminId, LocalDateTime.now())) {
+            throw new RuntimeException("Application is claimed by another admin");
+        }
+
+        verification.releaseLease();
+        return mapToResponse(verificationRepository.save(verification));
+    }
+
+    /**
+     * Return applications with expired leases to the queue
+     */
+    @Scheduled(fixedDelayString = "${verification.lease.sweep-interval-ms:60000}")
+    public void releaseExpiredLeases() {
+        int released = verificationRepository.releaseExpiredLeases(LocalDateTime.now());
+        if (released > 0) {
+            log.info("Released {} expired review leases", released);
+        }
+    }
+
     /**
      * Get all applications with optional status filter
      */
+    @Transactional(readOnly = true)
     public Page<ProfessionalVerificationResponse> getAllApplications(VerificationStatus status, Pageable pageable) {
         Page<ProfessionalVerification> applications;
         if (status != null) {
@@ -252,15 +475,38 @@ public class ProfessionalVerificationService {
     }
 
     /**
-     * Get verification statistics for admin dashboard
+     * Compact application list without a COUNT query; the total comes from the status counters
      */
-    public List<Object[]> getVerificationStatistics() {
-        return verificationRepository.getVerificationStatistics();
+    @Transactional(readOnly = true)
+    public SliceResponse<ProfessionalVerificationResponse> getAllApplicationsSlice(VerificationStatus status, Pageable pageable,
+                                                                                boolean includeTotal) {
+        Slice<ProfessionalVerification> applications;
+        Long total = null;
+        if (status != null) {
+            applications = verificationRepository.findSliceByStatus(status, pageable);
+            if (includeTotal) {
+                total = statisticsService.getCount(status);
+            }
+        } else {
+            applications = verificationRepository.findAllSlice(pageable);
+            if (includeTotal) {
+                total = statisticsService.getTotal();
+            }
+        }
+        return SliceResponse.of(applications.map(this::mapToResponse), total);
+    }
+
+    /**
+     * Get verification statistics for admin dashboard (served from maintained counters)
+     */
+    public VerificationStatisticsResponse getVerificationStatistics() {
+        return statisticsService.getStatistics();
     }
 
     /**
      * Get all verified professionals for directory
      */
+    @Transactional(readOnly = true)
     public Page<ProfessionalVerificationResponse> getAllProfessionals(String professionalType, String search, Pageable pageable) {
         Page<ProfessionalVerification> professionals;
         
@@ -283,6 +529,35 @@ public class ProfessionalVerificationService {
         return professionals.map(this::mapToResponse);
     }
 
+    /**
+     * Compact directory list without a COUNT query.
+     * An exact total is only available from the counters when no type or search filter is applied.
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<ProfessionalVerificationResponse> getAllProfessionalsSlice(String professionalType, String search,
+                                                                                 Pageable pageable, boolean includeTotal) {
+        Slice<ProfessionalVerification> professionals;
+        boolean hasSearch = search != null && !search.trim().isEmpty();
+        Long total = null;
+
+        if (professionalType != null && hasSearch) {
+            ProfessionalType type = ProfessionalType.valueOf(professionalType.toUpperCase());
+            professionals = verificationRepository.findApprovedByTypeAndSearchSlice(type, search.toLowerCase(), pageable);
+        } else if (professionalType != null) {
+            ProfessionalType type = ProfessionalType.valueOf(professionalType.toUpperCase());
+            professionals = verificationRepository.findApprovedByTypeSlice(type, pageable);
+        } else if (hasSearch) {
+            professionals = verificationRepository.findApprovedBySearchSlice(search.toLowerCase(), pageable);
+        } else {
+            professionals = verificationRepository.findApprovedProfessionalsSlice(pageable);
+            if (includeTotal) {
+                total = statisticsService.getCount(VerificationStatus.APPROVED);
+            }
+        }
+
+        return SliceResponse.of(professionals.map(this::mapToResponse), total);
+    }
+
     /**
      * Upload CSV of pre-approved professionals as reference list for admin verification
      */
@@ -493,6 +768,9 @@ public class ProfessionalVerificationService {
         response.setAiRecommendation(verification.getAiRecommendation());
         response.setAiMatchDetails(verification.getAiMatchDetails());
         response.setAiProcessedAt(verification.getAiProcessedAt());
+        response.setReviewPriority(ReviewPriority.fromRank(verification.getReviewPriority()));
+        response.setLeasedByAdminId(verification.getLeasedByAdminId());
+        response.setLeaseExpiresAt(verification.getLeaseExpiresAt());
 
         // Get admin name if available
         if (verification.getVerifiedByAdminId() != null) {
@@ -506,6 +784,7 @@ public class ProfessionalVerificationService {
     /**
      * Get all pre-approved professionals from reference list
      */
+    @Transactional(readOnly = true)
     public List<PreApprovedProfessional> getAllPreApprovedProfessionals() {
         return preApprovedRepository.findAllByOrderByUploadedAtDesc();
     }
@@ -513,6 +792,7 @@ public class ProfessionalVerificationService {
     /**
      * Search pre-approved professionals by criteria
      */
+    @Transactional(readOnly = true)
     public List<PreApprovedProfessional> searchPreApprovedProfessionals(
             String email, String name, ProfessionalType type, String specialization) {
         return preApprovedRepository.searchPreApproved(email, name, type, specialization);
@@ -521,6 +801,7 @@ public class ProfessionalVerificationService {
     /**
      * Check if a professional is in the pre-approved reference list
      */
+    @Transactional(readOnly = true)
     public boolean isInPreApprovedList(String email, ProfessionalType type, String specialization) {
         return preApprovedRepository.findByEmailIgnoreCaseAndProfessionalTypeAndSpecializationIgnoreCase(
             email, type, specialization).isPresent();
@@ -529,6 +810,7 @@ public class ProfessionalVerificationService {
     /**
      * Get pre-approved professional details for verification assistance
      */
+    @Transactional(readOnly = true)
     public Optional<PreApprovedProfessional> getPreApprovedProfessional(String email, ProfessionalType type, String specialization) {
         return preApprovedRepository.findByEmailIgnoreCaseAndProfessionalTypeAndSpecializationIgnoreCase(
             email, type, specialization);
@@ -550,6 +832,7 @@ public class ProfessionalVerificationService {
     /**
      * Get count of pre-approved professionals
      */
+    @Transactional(readOnly = true)
     public long getPreApprovedCount() {
         return preApprovedRepository.count();
     }
@@ -0,0 +1,122 @@
+package com.mindcare.connect.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bloom filter of every registered email and phone number, used to skip the
+ * existence lookups for registrations that are definitely new. A positive answer
+ * only means "maybe taken" and is confirmed with the exact query; correctness
+ * still rests on the users unique constraints, which also catch registrations
+ * made on other instances since this filter was loaded.
+ */
+@Service
+public class RegisteredIdentityFilter {
+    private static final Logger log = LoggerFactory.getLogger(RegisteredIdentityFilter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long minimumCapacity;
+    private final double falsePositiveRate;
+    private final Counter skipped;
+    private final Counter checked;
+
+    // Null until the first load has finished; every check falls through to the database until then
+    private volatile BloomFilter filter;
+
+    public RegisteredIdentityFilter(JdbcTemplate jdbcTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${security.registration-filter.capacity:100000}") long minimumCapacity,
+                                    @Value("${security.registration-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.minimumCapacity = minimumCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.skipped = Counter.builder("registration.precheck")
+                .description("Registration uniqueness pre-checks by outcome")
+                .tag("result", "skipped").register(meterRegistry);
+        this.checked = Counter.builder("registration.precheck")
+                .description("Registration uniqueness pre-checks by outcome")
+                .tag("result", "checked").register(meterRegistry);
+    }
+
+    /**
+     * Whether the email may already be registered (false means it definitely is not)
+     */
+    public boolean mightContainEmail(String email) {
+        return mightContain("email:" + email);
+    }
+
+    /**
+     * Whether the phone number may already be registered (false means it definitely is not)
+     */
+    public boolean mightContainPhone(String phone) {
+        return mightContain("phone:" + phone);
+    }
+
+    /**
+     * Add a newly created user's identifiers once the current transaction commits
+     */
+    public void add(String email, String phone) {
+        TransactionCallbacks.afterCommit(() -> {
+            BloomFilter current = filter;
+            if (current != null) {
+                current.put("email:" + email);
+                if (phone != null) {
+                    current.put("phone:" + phone);
+                }
+            }
+        });
+    }
+
+    /**
+     * (Re)build the filter from the users table, sized for twice the current population
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Long userCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            long capacity = Math.max(minimumCapacity, (userCount != null ? userCount : 0L) * 4);
+            BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement("SELECT email, phone FROM users");
+                statement.setFetchSize(1000);
+                return statement;
+            }, resultSet -> {
+                rebuilt.put("email:" + resultSet.getString(1));
+                String phone = resultSet.getString(2);
+                if (phone != null) {
+                    rebuilt.put("phone:" + phone);
+                }
+            });
+            filter = rebuilt;
+            log.info("Registration filter loaded with {} identifiers (capacity {})", rebuilt.getInsertions(), capacity);
+        } catch (Exception e) {
+            log.warn("Failed to load registration filter, registrations will use exact checks: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild once the filter holds more identifiers than it was sized for
+     */
+    @Scheduled(fixedDelayString = "${security.registration-filter.check-interval-ms:3600000}")
+    public void rebuildIfSaturated() {
+        BloomFilter current = filter;
+        if (current != null && current.isSaturated()) {
+            load();
+        }
+    }
+
+    private boolean mightContain(String key) {
+        BloomFilter current = filter;
+        boolean maybe = current == null || current.mightContain(key);
+        (maybe ? checked : skipped).increment();
+        return maybe;
+    }
+}
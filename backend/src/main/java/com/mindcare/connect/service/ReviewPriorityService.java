@@ -0,0 +1,76 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.entity.ProfessionalVerification;
+import com.mindcare.connect.entity.ReviewPriority;
+import com.mindcare.connect.repository.ProfessionalVerificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Assigns verification applications to review queue classes.
+ * Applications are classified by AI confidence when scored; anything still pending
+ * after the review SLA is escalated to OVERDUE so low-confidence items cannot starve
+ * behind a steady stream of high-confidence ones.
+ */
+@Service
+public class ReviewPriorityService {
+    private static final Logger log = LoggerFactory.getLogger(ReviewPriorityService.class);
+
+    private final ProfessionalVerificationRepository verificationRepository;
+
+    @Value("${verification.priority.high-confidence-threshold:0.90}")
+    private double highConfidenceThreshold;
+
+    @Value("${verification.priority.medium-confidence-threshold:0.50}")
+    private double mediumConfidenceThreshold;
+
+    @Value("${verification.priority.sla-hours:48}")
+    private long slaHours;
+
+    public ReviewPriorityService(ProfessionalVerificationRepository verificationRepository) {
+        this.verificationRepository = verificationRepository;
+    }
+
+    /**
+     * Queue class for an application based on its age and AI confidence
+     */
+    public ReviewPriority classify(ProfessionalVerification verification) {
+        if (verification.getCreatedAt() != null && verification.getCreatedAt().isBefore(slaCutoff())) {
+            return ReviewPriority.OVERDUE;
+        }
+        Double confidence = verification.getAiConfidenceScore();
+        if (confidence != null && confidence >= highConfidenceThreshold) {
+            return ReviewPriority.HIGH_CONFIDENCE;
+        }
+        if (confidence != null && confidence >= mediumConfidenceThreshold) {
+            return ReviewPriority.MEDIUM_CONFIDENCE;
+        }
+        return ReviewPriority.LOW_CONFIDENCE;
+    }
+
+    public void assign(ProfessionalVerification verification) {
+        verification.setReviewPriority(classify(verification).getRank());
+    }
+
+    /**
+     * Escalate pending applications that have waited longer than the SLA
+     */
+    @Scheduled(fixedDelayString = "${verification.priority.escalation-interval-ms:300000}")
+    @Transactional
+    public void escalateOverdue() {
+        int escalated = verificationRepository.escalateOverdue(ReviewPriority.OVERDUE.getRank(), slaCutoff());
+        if (escalated > 0) {
+            log.info("Escalated {} pending applications past the {}h review SLA", escalated, slaHours);
+        }
+    }
+
+    private LocalDateTime slaCutoff() {
+        return LocalDateTime.now().minusHours(slaHours);
+    }
+}
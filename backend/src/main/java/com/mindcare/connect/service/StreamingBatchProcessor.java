@@ -0,0 +1,141 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.entity.BatchJobCheckpoint;
+import com.mindcare.connect.repository.BatchJobCheckpointRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Runs a background job over a streaming repository query in constant memory.
+ * The source is a Stream-returning, id-ordered query that starts after a given id
+ * (the stream* repository methods). Rows are handed to the job in chunks; after
+ * each chunk the persistence context is flushed and cleared. Work is committed in
+ * segments of a few chunks, together with the job's checkpoint, so transactions
+ * stay short and an interrupted job resumes after the last committed segment.
+ */
+@Service
+public class StreamingBatchProcessor {
+    private static final Logger log = LoggerFactory.getLogger(StreamingBatchProcessor.class);
+
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${batch.streaming.chunk-size:200}")
+    private int defaultChunkSize;
+
+    @Value("${batch.streaming.chunks-per-transaction:10}")
+    private int chunksPerTransaction;
+
+    public StreamingBatchProcessor(BatchJobCheckpointRepository checkpointRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Process every row of the source with the default chunk size
+     */
+    public <T> long process(String jobName, Function<Long, Stream<T>> source, ToLongFunction<T> idOf,
+                            Consumer<List<T>> chunkHandler) {
+        return process(jobName, source, idOf, chunkHandler, defaultChunkSize);
+    }
+
+    /**
+     * Process every row of the source, resuming an unfinished run of the same job.
+     * Returns the number of rows handled by this call.
+     */
+    public <T> long process(String jobName, Function<Long, Stream<T>> source, ToLongFunction<T> idOf,
+                            Consumer<List<T>> chunkHandler, int chunkSize) {
+        if (!runningJobs.add(jobName)) {
+            throw new RuntimeException("Batch job " + jobName + " is already running");
+        }
+        try {
+            long processed = 0;
+            SegmentResult segment;
+            do {
+                segment = transactionTemplate.execute(status -> runSegment(jobName, source, idOf, chunkHandler, chunkSize));
+                processed += segment.processed();
+            } while (!segment.exhausted());
+
+            log.info("Batch job {} completed: {} rows processed", jobName, processed);
+            return processed;
+        } finally {
+            runningJobs.remove(jobName);
+        }
+    }
+
+    private record SegmentResult(long processed, boolean exhausted) {}
+
+    private <T> SegmentResult runSegment(String jobName, Function<Long, Stream<T>> source, ToLongFunction<T> idOf,
+                                         Consumer<List<T>> chunkHandler, int chunkSize) {
+        BatchJobCheckpoint checkpoint = checkpointRepository.findById(jobName)
+                .orElseGet(() -> new BatchJobCheckpoint(jobName));
+        if (checkpoint.getStatus() == BatchJobCheckpoint.Status.COMPLETED) {
+            checkpoint.restart();
+        }
+
+        long afterId = checkpoint.getLastProcessedId();
+        long processed = 0;
+        int chunks = 0;
+        boolean exhausted = true;
+
+        try (Stream<T> rows = source.apply(afterId)) {
+            Iterator<T> iterator = rows.iterator();
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    afterId = handleChunk(chunk, idOf, chunkHandler);
+                    processed += chunk.size();
+                    chunk.clear();
+                    if (++chunks == chunksPerTransaction) {
+                        // Commit this segment; the next one reopens the cursor after afterId
+                        exhausted = !iterator.hasNext();
+                        break;
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                afterId = handleChunk(chunk, idOf, chunkHandler);
+                processed += chunk.size();
+            }
+        }
+
+        checkpoint.advance(afterId, processed);
+        if (exhausted) {
+            checkpoint.complete();
+        }
+        checkpointRepository.save(checkpoint);
+        return new SegmentResult(processed, exhausted);
+    }
+
+    private <T> long handleChunk(List<T> chunk, ToLongFunction<T> idOf, Consumer<List<T>> chunkHandler) {
+        long lastId = idOf.applyAsLong(chunk.get(chunk.size() - 1));
+        chunkHandler.accept(chunk);
+        // Write the chunk's changes and drop its entities so memory stays flat
+        entityManager.flush();
+        entityManager.clear();
+        return lastId;
+    }
+}
@@ -0,0 +1,98 @@
+package com.mindcare.connect.service;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of in-process locks selected by key hash. Used to serialize work on the
+ * same logical key (a user, a BMDC number) inside one instance so concurrent requests
+ * queue up instead of all running to the database's unique constraint; the constraint
+ * remains the cross-instance guarantee. Take the locks before opening the transaction
+ * they protect, so a waiting request does not hold a pooled connection, and hand them
+ * to that transaction so the next holder sees the committed row.
+ */
+public class StripedLocks {
+
+    private final ReentrantLock[] stripes;
+
+    public StripedLocks(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Lock the stripes for all keys, in stripe order so callers cannot deadlock each other
+     */
+    public Held lock(Collection<?> keys, long timeoutMs) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (Object key : keys) {
+            indexes.add(stripeIndex(key));
+        }
+
+        TreeSet<Integer> acquired = new TreeSet<>();
+        try {
+            for (Integer index : indexes) {
+                if (!stripes[index].tryLock(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new RuntimeException("Another request for the same account or registration is in progress, please retry");
+                }
+                acquired.add(index);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unlock(acquired);
+            throw new RuntimeException("Interrupted while waiting for lock");
+        } catch (RuntimeException e) {
+            unlock(acquired);
+            throw e;
+        }
+        return new Held(acquired);
+    }
+
+    private void unlock(TreeSet<Integer> indexes) {
+        for (Integer index : indexes.descendingSet()) {
+            stripes[index].unlock();
+        }
+    }
+
+    private int stripeIndex(Object key) {
+        int hash = key.hashCode();
+        // Spread high bits so similar keys (sequential ids) land on different stripes
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, stripes.length);
+    }
+
+    /**
+     * Stripes held by the calling thread. Released by whichever comes first: completion of
+     * the transaction they were handed to, or close() (for when that transaction never began).
+     */
+    public final class Held implements AutoCloseable {
+        private final TreeSet<Integer> indexes;
+        private boolean released;
+
+        private Held(TreeSet<Integer> indexes) {
+            this.indexes = indexes;
+        }
+
+        /**
+         * Release the stripes as soon as the current transaction commits or rolls back
+         */
+        public void releaseAfterCompletion() {
+            TransactionCallbacks.afterCompletion(this::close);
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                unlock(indexes);
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.entity.RevokedToken;
+import com.mindcare.connect.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server-side JWT revocation by token id (jti), cheap enough for every request.
+ * A Bloom filter answers "definitely not revoked" without touching the exact set;
+ * only its (rare) positives are confirmed against the set. Each revoked id sits in
+ * a hierarchical timing wheel and leaves the set when the token would have expired
+ * anyway; the filter is rebuilt from the set once enough ids have expired or it is
+ * over capacity. Revocations are persisted, reloaded at startup and synced
+ * periodically so every instance converges on the same set.
+ */
+@Service
+public class TokenRevocationService {
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private static final int[] WHEEL_SIZES = {60, 60, 24};
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+    private final ExpiryWheel<String> expiryWheel;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile LocalDateTime lastSyncedAt;
+    private int expiredSinceRebuild;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${security.revocation.expected-revocations:100000}") long expectedRevocations,
+                                  @Value("${security.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+        this.expiryWheel = new ExpiryWheel<>(1000L, WHEEL_SIZES, System.currentTimeMillis());
+        Gauge.builder("security.revoked-tokens", revoked, Set::size)
+                .description("Revoked token ids still within their expiry")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load revocations that are still in force
+     */
+    @PostConstruct
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> active = transactionTemplate.execute(status -> revokedTokenRepository.findByExpiresAtAfter(now));
+        active.forEach(this::track);
+        lastSyncedAt = now;
+        log.info("Loaded {} active token revocations", active.size());
+    }
+
+    /**
+     * Whether a token id has been revoked
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        // Fast negative path; only possible members reach the exact set
+        return bloomFilter.mightContain(tokenId) && revoked.contains(tokenId);
+    }
+
+    /**
+     * Revoke a token until its own expiry
+     */
+    public void revoke(String tokenId, Long userId, Date expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.after(new Date())) {
+            return;
+        }
+        RevokedToken token = new RevokedToken(tokenId, userId,
+                LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()));
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!revokedTokenRepository.existsById(tokenId)) {
+                revokedTokenRepository.save(token);
+            }
+        });
+        track(token);
+    }
+
+    /**
+     * Expire revocations whose tokens are past their expiry
+     */
+    @Scheduled(fixedRate = 1000)
+    public void tick() {
+        synchronized (expiryWheel) {
+            expiryWheel.advance(System.currentTimeMillis(), tokenId -> {
+                revoked.remove(tokenId);
+                expiredSinceRebuild++;
+            });
+            if (expiredSinceRebuild > revoked.size() || bloomFilter.isSaturated()) {
+                rebuildFilter();
+            }
+        }
+    }
+
+    /**
+     * Pick up revocations made by other instances
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.sync-interval-ms:15000}")
+    public void sync() {
+        LocalDateTime since = lastSyncedAt;
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            // Overlap the window slightly so rows committed while the last sync ran are not missed
+            List<RevokedToken> recent = transactionTemplate.execute(status ->
+                    revokedTokenRepository.findRevokedSince(since.minusSeconds(5), now));
+            recent.forEach(this::track);
+            lastSyncedAt = now;
+        } catch (Exception e) {
+            log.warn("Failed to sync token revocations: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Delete persisted revocations whose tokens have expired
+     */
+    @Scheduled(cron = "${security.revocation.purge-cron:0 0 * * * *}")
+    public void purgeExpired() {
+        Integer purged = transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(LocalDateTime.now()));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} expired token revocations", purged);
+        }
+    }
+
+    private void track(RevokedToken token) {
+        if (!revoked.add(token.getJti())) {
+            return;
+        }
+        long expiresAtMs = token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // Bloom filter first: a concurrent isRevoked must never see the filter miss a member of the set
+        bloomFilter.put(token.getJti());
+        synchronized (expiryWheel) {
+            if (!expiryWheel.add(token.getJti(), expiresAtMs)) {
+                revoked.remove(token.getJti());
+            }
+        }
+    }
+
+    private void rebuildFilter() {
+        long capacity = Math.max(expectedRevocations, revoked.size() * 2L);
+        BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+        revoked.forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // Ids tracked while rebuilding were put into the old filter only
+        revoked.forEach(rebuilt::put);
+        expiredSinceRebuild = 0;
+    }
+}
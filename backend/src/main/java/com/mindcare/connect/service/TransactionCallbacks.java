@@ -0,0 +1,88 @@
+package com.mindcare.connect.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Defers side effects that must not outlive a rollback (in-memory mirrors, caches,
+ * metrics) or must last exactly as long as the transaction (in-process locks) to the
+ * end of the surrounding transaction, and batches writes made on behalf of several
+ * events into one step just before it commits.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {}
+
+    /**
+     * Run the action once the current transaction commits, or right away when none is active
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Run the action once the current transaction commits or rolls back
+     */
+    public static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("No active transaction to attach the callback to");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * State shared by every call with the same key in the current transaction: created on first
+     * use and handed to the writer just before commit, inside the transaction
+     */
+    public static <T> T beforeCommit(Object key, Supplier<T> initial, Consumer<T> writer) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("No active transaction to attach the callback to");
+        }
+        // Synchronizations (unlike bound resources) are suspended with their transaction,
+        // so a REQUIRES_NEW transaction gets its own state
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof BeforeCommitState<?> existing && existing.key.equals(key)) {
+                @SuppressWarnings("unchecked")
+                T state = (T) existing.state;
+                return state;
+            }
+        }
+        T state = initial.get();
+        TransactionSynchronizationManager.registerSynchronization(new BeforeCommitState<>(key, state, writer));
+        return state;
+    }
+
+    private static final class BeforeCommitState<T> implements TransactionSynchronization {
+        private final Object key;
+        private final T state;
+        private final Consumer<T> writer;
+
+        BeforeCommitState(Object key, T state, Consumer<T> writer) {
+            this.key = key;
+            this.state = state;
+            this.writer = writer;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            writer.accept(state);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.mindcare.connect.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mindcare.connect.entity.Role;
+import com.mindcare.connect.entity.UserStatus;
+import com.mindcare.connect.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Small bounded cache of each user's current status and roles, consulted by the JWT
+ * filter instead of loading the user on every request. Entries live for a few
+ * seconds and are dropped explicitly (after commit) whenever a user's status or
+ * roles change, so suspensions, bans and role changes apply to existing tokens
+ * almost immediately.
+ */
+@Service
+public class UserAuthStateCache {
+
+    /**
+     * Status and roles of a user as stored in the database
+     */
+    public record UserAuthState(boolean exists, UserStatus status, Set<Role> roles) {
+        static final UserAuthState MISSING = new UserAuthState(false, null, Collections.emptySet());
+
+        /**
+         * Whether requests carrying this user's token may be authenticated
+         */
+        public boolean canAuthenticate() {
+            return exists && status != UserStatus.SUSPENDED && status != UserStatus.BANNED;
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, UserAuthState> cache;
+
+    public UserAuthStateCache(UserRepository userRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${security.auth-state-cache.ttl-seconds:5}") long ttlSeconds,
+                              @Value("${security.auth-state-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        // Read-write template: keeps the lookup on the primary so a lagging replica cannot re-cache stale state
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userAuthState");
+    }
+
+    /**
+     * Current state of a user, loaded on a miss
+     */
+    public UserAuthState get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    /**
+     * Drop a user's entry once the current transaction commits
+     */
+    public void invalidate(Long userId) {
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(userId));
+    }
+
+    /**
+     * Drop several users' entries once the current transaction commits
+     */
+    public void invalidateAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> cache.invalidateAll(userIds));
+    }
+
+    private UserAuthState load(Long userId) {
+        return transactionTemplate.execute(status -> userRepository.findById(userId)
+                .map(user -> new UserAuthState(true, user.getStatus(), user.getRoles()))
+                .orElse(UserAuthState.MISSING));
+    }
+}
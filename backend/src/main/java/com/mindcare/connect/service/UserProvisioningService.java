@@ -0,0 +1,445 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.dto.BulkUserProvisioningResponse;
+import com.mindcare.connect.dto.BulkUserProvisioningResponse.Outcome;
+import com.mindcare.connect.dto.BulkUserProvisioningResponse.RowResult;
+import com.mindcare.connect.dto.RegisterRequest;
+import com.mindcare.connect.entity.Role;
+import com.mindcare.connect.entity.UserStatus;
+import com.mindcare.connect.repository.UserRepository;
+import com.mindcare.connect.service.PasswordHashingService.HashingCapacityExceededException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk account creation from a CSV upload.
+ * The file is read line by line and handled in batches: rows are validated with the
+ * self-registration rules, duplicates are found with one IN query per batch (plus a
+ * set of identifiers already seen in the file), passwords are hashed in parallel on
+ * the PasswordHashingService pool with a cap on in-flight tasks so logins keep a
+ * share of it, and each batch is written with a single JDBC batch insert. A batch
+ * that loses a race on a unique constraint is retried row by row to pin down the
+ * conflicting rows. Only patient accounts can be created this way.
+ */
+@Service
+public class UserProvisioningService {
+    private static final Logger log = LoggerFactory.getLogger(UserProvisioningService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (first_name, last_name, email, phone, password, roles_mask, status, " +
+            "email_verified, phone_verified, login_attempts, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, FALSE, 0, ?, ?)";
+
+    private static final String[] REQUIRED_COLUMNS = {"first_name", "last_name", "email", "password"};
+    private static final Set<UserStatus> ALLOWED_STATUSES =
+            EnumSet.of(UserStatus.PENDING_VERIFICATION, UserStatus.ACTIVE);
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService hashingService;
+    private final RegisteredIdentityFilter registeredIdentities;
+    private final EntityCacheService entityCacheService;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user.provisioning.batch-size:100}")
+    private int batchSize;
+
+    @Value("${user.provisioning.max-rows:1000}")
+    private int maxRows;
+
+    @Value("${user.provisioning.max-concurrent-hashes:0}")
+    private int maxConcurrentHashes;
+
+    @Value("${user.provisioning.hash-retry-delay-ms:100}")
+    private long hashRetryDelayMs;
+
+    @Value("${user.provisioning.hash-max-attempts:20}")
+    private int hashMaxAttempts;
+
+    public UserProvisioningService(UserRepository userRepository,
+                                   PasswordHashingService hashingService,
+                                   RegisteredIdentityFilter registeredIdentities,
+                                   EntityCacheService entityCacheService,
+                                   Validator validator,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.hashingService = hashingService;
+        this.registeredIdentities = registeredIdentities;
+        this.entityCacheService = entityCacheService;
+        this.validator = validator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Create the users listed in a CSV with columns first_name, last_name, email, password and
+     * optionally phone, roles (PATIENT only) and status (PENDING_VERIFICATION or ACTIVE)
+     */
+    public BulkUserProvisioningResponse provision(InputStream csv, Long adminId) throws IOException {
+        long started = System.currentTimeMillis();
+        BulkUserProvisioningResponse response = new BulkUserProvisioningResponse();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new RuntimeException("CSV file is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            String[] headers = parseLine(stripBom(headerLine));
+            for (int i = 0; i < headers.length; i++) {
+                columns.put(headers[i].trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String required : REQUIRED_COLUMNS) {
+                if (!columns.containsKey(required)) {
+                    throw new RuntimeException("Missing required column: " + required);
+                }
+            }
+
+            Set<String> seenEmails = new HashSet<>();
+            Set<String> seenPhones = new HashSet<>();
+            List<PendingRow> batch = new ArrayList<>(batchSize);
+            int lineNumber = 1;
+            int dataRows = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (dataRows == maxRows) {
+                    // Rows past the limit are not read; the ones before it are still provisioned
+                    response.setTruncated(true);
+                    break;
+                }
+                dataRows++;
+                batch.add(parseRow(lineNumber, parseLine(line), columns, seenEmails, seenPhones));
+                if (batch.size() == batchSize) {
+                    processBatch(batch, response);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                processBatch(batch, response);
+            }
+        }
+
+        response.setDurationMs(System.currentTimeMillis() - started);
+        log.info("Bulk provisioning by admin {}: {} rows, {} created, {} duplicates, {} invalid, {} failed in {} ms",
+                 adminId, response.getRows(), response.getCreated(), response.getDuplicates(),
+                 response.getInvalid(), response.getFailed(), response.getDurationMs());
+        return response;
+    }
+
+    private static final class PendingRow {
+        final int line;
+        String firstName;
+        String lastName;
+        String email;
+        String phone;
+        String password;
+        int rolesMask;
+        UserStatus status;
+        String passwordHash;
+        Outcome outcome;
+        String message;
+
+        PendingRow(int line) {
+            this.line = line;
+        }
+
+        boolean isPending() {
+            return outcome == null;
+        }
+
+        void resolve(Outcome outcome, String message) {
+            this.outcome = outcome;
+            this.message = message;
+            this.password = null;
+        }
+    }
+
+    private PendingRow parseRow(int lineNumber, String[] fields, Map<String, Integer> columns,
+                                Set<String> seenEmails, Set<String> seenPhones) {
+        PendingRow row = new PendingRow(lineNumber);
+        row.firstName = field(fields, columns, "first_name");
+        row.lastName = field(fields, columns, "last_name");
+        row.email = field(fields, columns, "email");
+        row.phone = field(fields, columns, "phone");
+        row.password = field(fields, columns, "password");
+
+        RegisterRequest request = new RegisterRequest(row.firstName, row.lastName, row.email, row.phone,
+                                                      row.password, row.password, true);
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            row.resolve(Outcome.INVALID, violations.stream().map(ConstraintViolation::getMessage)
+                    .sorted().collect(Collectors.joining("; ")));
+            return row;
+        }
+
+        try {
+            row.rolesMask = parseRoles(field(fields, columns, "roles"));
+            row.status = parseStatus(field(fields, columns, "status"));
+        } catch (RuntimeException e) {
+            row.resolve(Outcome.INVALID, e.getMessage());
+            return row;
+        }
+
+        if (!seenEmails.add(row.email)) {
+            row.resolve(Outcome.DUPLICATE, "Email address appears more than once in the file");
+        } else if (row.phone != null && !seenPhones.add(row.phone)) {
+            row.resolve(Outcome.DUPLICATE, "Phone number appears more than once in the file");
+        }
+        return row;
+    }
+
+    // Only patient accounts can be provisioned; other roles carry privileges that are granted
+    // through professional verification or by an admin, never from a file
+    private int parseRoles(String value) {
+        if (value == null) {
+            return Role.PATIENT.getBit();
+        }
+        for (String name : value.split(";")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            Role role;
+            try {
+                role = Role.valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid role: " + name.trim());
+            }
+            if (role != Role.PATIENT) {
+                throw new RuntimeException(role.name() + " role cannot be assigned by bulk provisioning");
+            }
+        }
+        return Role.PATIENT.getBit();
+    }
+
+    private UserStatus parseStatus(String value) {
+        if (value == null) {
+            return UserStatus.PENDING_VERIFICATION;
+        }
+        try {
+            UserStatus status = UserStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            if (ALLOWED_STATUSES.contains(status)) {
+                return status;
+            }
+        } catch (IllegalArgumentException e) {
+            // Reported below
+        }
+        throw new RuntimeException("Invalid status: " + value.trim() + " (allowed: " + ALLOWED_STATUSES + ")");
+    }
+
+    private void processBatch(List<PendingRow> batch, BulkUserProvisioningResponse response) {
+        rejectExisting(batch);
+        hashPasswords(batch);
+        insert(batch);
+        for (PendingRow row : batch) {
+            response.addResult(new RowResult(row.line, row.email, row.outcome, row.message));
+        }
+    }
+
+    private void rejectExisting(List<PendingRow> batch) {
+        Set<String> emails = new HashSet<>();
+        Set<String> phones = new HashSet<>();
+        for (PendingRow row : batch) {
+            if (row.isPending()) {
+                emails.add(row.email);
+                if (row.phone != null) {
+                    phones.add(row.phone);
+                }
+            }
+        }
+        if (emails.isEmpty()) {
+            return;
+        }
+
+        // Read-write template keeps the check on the primary, where concurrent registrations are visible
+        Set<String> existingEmails = new HashSet<>(transactionTemplate.execute(status ->
+                userRepository.findExistingEmails(emails)));
+        Set<String> existingPhones = phones.isEmpty() ? Set.of() : new HashSet<>(transactionTemplate.execute(status ->
+                userRepository.findExistingPhones(phones)));
+
+        for (PendingRow row : batch) {
+            if (!row.isPending()) {
+                continue;
+            }
+            if (existingEmails.contains(row.email)) {
+                row.resolve(Outcome.DUPLICATE, "Email address is already registered");
+            } else if (row.phone != null && existingPhones.contains(row.phone)) {
+                row.resolve(Outcome.DUPLICATE, "Phone number is already registered");
+            }
+        }
+    }
+
+    private void hashPasswords(List<PendingRow> batch) {
+        int permits = maxConcurrentHashes > 0 ? maxConcurrentHashes : Math.max(1, hashingService.getPoolSize() - 1);
+        Semaphore inFlight = new Semaphore(permits);
+        List<CompletableFuture<Void>> hashes = new ArrayList<>();
+        for (PendingRow row : batch) {
+            if (!row.isPending()) {
+                continue;
+            }
+            inFlight.acquireUninterruptibly();
+            hashes.add(encodeWithRetry(row.password).handle((hash, error) -> {
+                inFlight.release();
+                if (error == null) {
+                    row.passwordHash = hash;
+                    row.password = null;
+                } else {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    row.resolve(Outcome.FAILED, "Password hashing failed: " + cause.getMessage());
+                }
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(hashes.toArray(new CompletableFuture[0])).join();
+    }
+
+    private CompletableFuture<String> encodeWithRetry(String password) {
+        CompletableFuture<String> hash = hashingService.encode(password);
+        // The pool rejects synchronously when full (e.g. during a login burst); back off and retry
+        for (int attempt = 1; attempt < hashMaxAttempts && isCapacityRejection(hash); attempt++) {
+            try {
+                Thread.sleep(hashRetryDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            hash = hashingService.encode(password);
+        }
+        return hash;
+    }
+
+    private boolean isCapacityRejection(CompletableFuture<String> hash) {
+        if (!hash.isCompletedExceptionally()) {
+            return false;
+        }
+        try {
+            hash.join();
+            return false;
+        } catch (CompletionException e) {
+            return e.getCause() instanceof HashingCapacityExceededException;
+        }
+    }
+
+    private void insert(List<PendingRow> batch) {
+        List<PendingRow> rows = batch.stream().filter(PendingRow::isPending).toList();
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows.stream().map(row -> insertArgs(row, now)).toList());
+                afterInsert(rows);
+            });
+            rows.forEach(row -> row.resolve(Outcome.CREATED, null));
+        } catch (DataIntegrityViolationException e) {
+            // Someone registered one of these identifiers since the duplicate check; find out which rows
+            log.info("Bulk insert of {} users hit a constraint, retrying row by row: {}",
+                     rows.size(), ConstraintViolations.describe(e));
+            rows.forEach(row -> insertOne(row, now));
+        } catch (Exception e) {
+            log.error("Bulk insert of {} users failed: {}", rows.size(), e.getMessage());
+            rows.forEach(row -> row.resolve(Outcome.FAILED, e.getMessage()));
+        }
+    }
+
+    private void insertOne(PendingRow row, Timestamp now) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_SQL, insertArgs(row, now));
+                afterInsert(List.of(row));
+            });
+            row.resolve(Outcome.CREATED, null);
+        } catch (DataIntegrityViolationException e) {
+            row.resolve(Outcome.DUPLICATE, ConstraintViolations.describe(e));
+        } catch (Exception e) {
+            row.resolve(Outcome.FAILED, e.getMessage());
+        }
+    }
+
+    private Object[] insertArgs(PendingRow row, Timestamp now) {
+        return new Object[] {row.firstName, row.lastName, row.email, row.phone, row.passwordHash, row.rolesMask,
+                             row.status.name(), now, now};
+    }
+
+    private void afterInsert(List<PendingRow> rows) {
+        // Both register with afterCommit, so nothing is published for a rolled-back batch
+        for (PendingRow row : rows) {
+            registeredIdentities.add(row.email, row.phone);
+        }
+        entityCacheService.evictUserLookups();
+    }
+
+    private String field(String[] fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.length) {
+            return null;
+        }
+        String value = fields[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    // Minimal CSV: commas separate fields, double quotes enclose them, "" is a literal quote
+    private String[] parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (c == ',' && !inQuotes) {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields.toArray(new String[0]);
+    }
+}
@@ -1,21 +1,17 @@
 package com.mindcare.connect.service;
 
 import com.mindcare.connect.dto.AuthResponse;
-import com.mindcare.connect.dto.LoginRequest;
 import com.mindcare.connect.dto.RegisterRequest;
 import com.mindcare.connect.entity.Role;
 import com.mindcare.connect.entity.User;
 import com.mindcare.connect.entity.UserStatus;
 import com.mindcare.connect.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.DisabledException;
-import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -31,19 +27,26 @@ public class UserService implements UserDetailsService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
-    
-    @Value("${security.max-login-attempts}")
-    private int maxLoginAttempts;
+    private final UserAuthStateCache authStateCache;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final RegisteredIdentityFilter registeredIdentities;
     
     public UserService(UserRepository userRepository, 
                       PasswordEncoder passwordEncoder,
-                      JwtService jwtService) {
+                      JwtService jwtService,
+                      UserAuthStateCache authStateCache,
+                      LastLoginRecorder lastLoginRecorder,
+                      RegisteredIdentityFilter registeredIdentities) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.authStateCache = authStateCache;
+        this.lastLoginRecorder = lastLoginRecorder;
+        this.registeredIdentities = registeredIdentities;
     }
     
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
@@ -58,150 +61,92 @@ public class UserService implements UserDetailsService {
                 .build();
     }
     
-    public AuthResponse registerUser(RegisterRequest request) {
-        try {
-            // Validate request
-            if (!request.isPasswordsMatch()) {
-                return AuthResponse.error("Passwords do not match");
-            }
-            
-            if (!request.isTermsAgreed()) {
-                return AuthResponse.error("You must agree to the terms and conditions");
-            }
-            
-            // Check if user already exists
-            if (userRepository.existsByEmail(request.getEmail())) {
-                return AuthResponse.error("Email address is already registered");
-            }
-            
-            if (request.getPhone() != null && userRepository.existsByPhone(request.getPhone())) {
-                return AuthResponse.error("Phone number is already registered");
-            }
-            
-            // Create new user
-            User user = new User(
-                    request.getFirstName(),
-                    request.getLastName(),
-                    request.getEmail(),
-                    passwordEncoder.encode(request.getPassword())
-            );
-            
-            if (request.getPhone() != null) {
-                user.setPhone(request.getPhone());
-            }
-            
-            user.setStatus(UserStatus.PENDING_VERIFICATION);
-            user = userRepository.save(user);
-            
-            // Generate JWT token
-            Map<String, Object> claims = new HashMap<>();
-            claims.put("userId", user.getId());
-            claims.put("roles", user.getRoles());
-            claims.put("status", user.getStatus());
-            
-            String token = jwtService.generateToken(user.getEmail(), claims);
-            
-            // Create user info for response
-            AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
-                    user.getId(),
-                    user.getFirstName(),
-                    user.getLastName(),
-                    user.getEmail(),
-                    user.getPhone(),
-                    user.getRoles(),
-                    user.getStatus(),
-                    user.getEmailVerified(),
-                    user.getPhoneVerified(),
-                    user.getLastLogin(),
-                    user.getCreatedAt()
-            );
-            
-            return AuthResponse.success(token, jwtService.getExpirationTime(), userInfo);
-            
-        } catch (Exception e) {
-            return AuthResponse.error("Registration failed: " + e.getMessage());
+    /**
+     * Create a registered user from an already hashed password and issue its token
+     */
+    public AuthResponse createUser(RegisterRequest request, String passwordHash) {
+        User user = new User(
+                request.getFirstName(),
+                request.getLastName(),
+                request.getEmail(),
+                passwordHash
+        );
+        
+        if (request.getPhone() != null) {
+            user.setPhone(request.getPhone());
         }
+        
+        user.setStatus(UserStatus.PENDING_VERIFICATION);
+        // Duplicates surface here as a violation of uk_users_email / uk_users_phone
+        user = userRepository.saveAndFlush(user);
+        registeredIdentities.add(user.getEmail(), user.getPhone());
+        
+        return buildAuthResponse(user);
     }
     
-    public AuthResponse authenticateUser(LoginRequest request) {
-        try {
-            Optional<User> userOpt = userRepository.findByEmail(request.getEmail());
-            
-            if (userOpt.isEmpty()) {
-                return AuthResponse.error("Invalid email or password");
-            }
-            
-            User user = userOpt.get();
-            
-            // Check if account is locked
-            if (user.isAccountLocked()) {
-                return AuthResponse.error("Account is temporarily locked due to multiple failed login attempts. Please try again later.");
-            }
-            
-            // Check if account is active
-            if (user.getStatus() != UserStatus.ACTIVE && user.getStatus() != UserStatus.PENDING_VERIFICATION) {
-                return AuthResponse.error("Account is suspended or banned. Please contact support.");
-            }
-            
-            try {
-                // Verify password manually
-                if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                    throw new BadCredentialsException("Invalid password");
-                }
-                
-                // Reset login attempts on successful authentication
-                user.resetLoginAttempts();
-                user.setLastLogin(LocalDateTime.now());
-                userRepository.save(user);
-                
-                // Generate JWT token
-                Map<String, Object> claims = new HashMap<>();
-                claims.put("userId", user.getId());
-                claims.put("roles", user.getRoles());
-                claims.put("status", user.getStatus());
-                
-                String token = jwtService.generateToken(user.getEmail(), claims);
-                
-                // Create user info for response
-                AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
-                        user.getId(),
-                        user.getFirstName(),
-                        user.getLastName(),
-                        user.getEmail(),
-                        user.getPhone(),
-                        user.getRoles(),
-                        user.getStatus(),
-                        user.getEmailVerified(),
-                        user.getPhoneVerified(),
-                        user.getLastLogin(),
-                        user.getCreatedAt()
-                );
-                
-                return AuthResponse.success(token, jwtService.getExpirationTime(), userInfo);
-                
-            } catch (BadCredentialsException e) {
-                // Increment login attempts
-                user.incrementLoginAttempts();
-                
-                if (user.getLoginAttempts() >= maxLoginAttempts) {
-                    user.lockAccount(30); // Lock for 30 minutes
-                    userRepository.save(user);
-                    return AuthResponse.error("Account locked due to multiple failed login attempts. Please try again in 30 minutes.");
-                }
-                
-                userRepository.save(user);
-                
-                int remainingAttempts = maxLoginAttempts - user.getLoginAttempts();
-                return AuthResponse.error("Invalid email or password. " + remainingAttempts + " attempts remaining.");
-            }
-            
-        } catch (LockedException e) {
-            return AuthResponse.error("Account is locked. Please contact support.");
-        } catch (DisabledException e) {
-            return AuthResponse.error("Account is disabled. Please contact support.");
-        } catch (Exception e) {
-            return AuthResponse.error("Authentication failed: " + e.getMessage());
-        }
+    /**
+     * User attempting to log in, read from the primary so a fresh registration is visible
+     */
+    public Optional<User> findForLogin(String email) {
+        return userRepository.findByEmail(email);
+    }
+    
+    /**
+     * Issue the token for a successful login; the last-login time is written behind in batches
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AuthResponse completeLogin(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        user.setLastLogin(now);
+        lastLoginRecorder.record(user.getId(), now);
+        return buildAuthResponse(user);
+    }
+    
+    /**
+     * Replace a user's password hash, e.g. after recomputing it with the current work factor
+     */
+    public void updatePasswordHash(Long userId, String passwordHash) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        user.setPassword(passwordHash);
+        userRepository.save(user);
+    }
+    
+    /**
+     * Persist a login lock once the in-memory failure window has reached its limit
+     */
+    public void lockAccount(Long userId, int lockoutMinutes) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        user.lockAccount(lockoutMinutes);
+        userRepository.save(user);
+    }
+    
+    private AuthResponse buildAuthResponse(User user) {
+        // Generate JWT token
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", user.getId());
+        claims.put("roles", user.getRoles());
+        claims.put("status", user.getStatus());
+        
+        String token = jwtService.generateToken(user.getEmail(), claims);
+        
+        // Create user info for response
+        AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
+                user.getId(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.getPhone(),
+                user.getRoles(),
+                user.getStatus(),
+                user.getEmailVerified(),
+                user.getPhoneVerified(),
+                user.getLastLogin(),
+                user.getCreatedAt()
+        );
+        
+        return AuthResponse.success(token, jwtService.getExpirationTime(), userInfo);
     }
     
     public User createAdminUser(String email, String password, String firstName, String lastName) {
@@ -219,26 +164,53 @@ public class UserService implements UserDetailsService {
         admin.setCreatedAt(now);
         admin.setUpdatedAt(now);
         
-        return userRepository.save(admin);
+        admin = userRepository.save(admin);
+        registeredIdentities.add(admin.getEmail(), admin.getPhone());
+        return admin;
     }
     
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
     
+    @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
     }
     
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
     
+    @Transactional(readOnly = true)
+    public boolean existsByPhone(String phone) {
+        return userRepository.existsByPhone(phone);
+    }
+    
     public User updateUser(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        authStateCache.invalidate(saved.getId());
+        return saved;
     }
     
-    public void unlockExpiredAccounts() {
-        userRepository.unlockExpiredAccounts(LocalDateTime.now());
+    /**
+     * Admin changes a user's account status; tokens already issued to the user follow on the next request
+     */
+    public User updateUserStatus(Long userId, UserStatus status, Long adminId) {
+        if (status == null) {
+            throw new RuntimeException("Status is required");
+        }
+        if (userId.equals(adminId)) {
+            throw new RuntimeException("Admins cannot change their own account status");
+        }
+        
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        user.setStatus(status);
+        user = userRepository.save(user);
+        authStateCache.invalidate(userId);
+        return user;
     }
 }
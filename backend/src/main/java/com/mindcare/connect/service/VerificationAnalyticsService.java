@@ -0,0 +1,222 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.dto.VerificationActivityResponse;
+import com.mindcare.connect.entity.ProfessionalType;
+import com.mindcare.connect.entity.RollupGranularity;
+import com.mindcare.connect.entity.VerificationActivityRollup;
+import com.mindcare.connect.entity.VerificationStatus;
+import com.mindcare.connect.repository.VerificationActivityRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Time-bucketed verification analytics.
+ * Events are summed per daily bucket within their own transaction and written just
+ * before it commits, so the rollups commit or roll back with the events and nothing
+ * is lost on shutdown. Bucket rows are written in a fixed order and created a day
+ * ahead, so concurrent events only lock existing rows briefly. A compaction job folds
+ * daily rows older than the retention window into weekly rows, so dashboard range
+ * queries read a few dozen pre-aggregated rows instead of the raw verification history.
+ */
+@Service
+public class VerificationAnalyticsService {
+    private static final Logger log = LoggerFactory.getLogger(VerificationAnalyticsService.class);
+
+    private record BucketKey(LocalDate day, ProfessionalType type) {}
+
+    // Lock order for bucket rows written by one transaction
+    private static final Comparator<BucketKey> BUCKET_ORDER =
+            Comparator.comparing(BucketKey::day).thenComparing(key -> key.type().name());
+
+    private final VerificationActivityRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${verification.analytics.daily-retention-days:90}")
+    private int dailyRetentionDays;
+
+    @Value("${verification.analytics.compaction-batch-size:500}")
+    private int compactionBatchSize;
+
+    public VerificationAnalyticsService(VerificationActivityRollupRepository rollupRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Record a submitted application and its AI confidence score
+     */
+    public void recordSubmission(ProfessionalType type, LocalDateTime submittedAt, Double confidenceScore) {
+        accumulate(type, submittedAt, delta -> delta.recordSubmission(confidenceScore));
+    }
+
+    /**
+     * Record an approval or rejection together with its time to decision
+     */
+    public void recordDecision(ProfessionalType type, VerificationStatus decision,
+                               LocalDateTime submittedAt, LocalDateTime decidedAt) {
+        long decisionSeconds = submittedAt != null && decidedAt != null
+                ? Duration.between(submittedAt, decidedAt).getSeconds() : 0L;
+        accumulate(type, decidedAt, delta -> delta.recordDecision(decision, decisionSeconds));
+    }
+
+    /**
+     * Create the daily bucket rows for today and tomorrow ahead of their first event, so
+     * event transactions update existing rows instead of racing to insert them
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${verification.analytics.bucket-creation-cron:0 0 22 * * *}")
+    public void createUpcomingBuckets() {
+        LocalDate today = LocalDate.now();
+        for (LocalDate day : List.of(today, today.plusDays(1))) {
+            for (ProfessionalType type : ProfessionalType.values()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        if (!rollupRepository.existsByGranularityAndBucketStartAndProfessionalType(
+                                RollupGranularity.DAY, day, type)) {
+                            rollupRepository.save(new VerificationActivityRollup(RollupGranularity.DAY, day, type));
+                        }
+                    });
+                } catch (DataIntegrityViolationException e) {
+                    // Created concurrently by another instance
+                } catch (Exception e) {
+                    log.warn("Failed to create analytics bucket {} {}: {}", day, type, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Fold daily buckets older than the retention window into weekly buckets
+     */
+    @Scheduled(cron = "${verification.analytics.compaction-cron:0 30 3 * * *}")
+    public void compact() {
+        LocalDate cutoff = RollupGranularity.WEEK.bucketStart(LocalDate.now().minusDays(dailyRetentionDays));
+        int compacted;
+        int total = 0;
+        do {
+            compacted = transactionTemplate.execute(status -> {
+                List<VerificationActivityRollup> dailyBuckets =
+                        rollupRepository.findDailyBucketsBefore(cutoff, PageRequest.of(0, compactionBatchSize));
+                for (VerificationActivityRollup daily : dailyBuckets) {
+                    mergeInto(RollupGranularity.WEEK, RollupGranularity.WEEK.bucketStart(daily.getBucketStart()),
+                              daily.getProfessionalType(), daily);
+                }
+                rollupRepository.deleteAllInBatch(dailyBuckets);
+                return dailyBuckets.size();
+            });
+            total += compacted;
+        } while (compacted == compactionBatchSize);
+
+        if (total > 0) {
+            log.info("Compacted {} daily analytics buckets before {} into weekly buckets", total, cutoff);
+        }
+    }
+
+    /**
+     * Activity trend for a date range, optionally restricted to one professional type
+     */
+    @Transactional(readOnly = true)
+    public VerificationActivityResponse getActivity(RollupGranularity granularity, LocalDate from, LocalDate to,
+                                                    ProfessionalType type) {
+        LocalDate start = granularity.bucketStart(from);
+
+        List<VerificationActivityRollup> rows = new ArrayList<>(rollupRepository.findRange(RollupGranularity.DAY, start, to));
+        if (granularity == RollupGranularity.WEEK) {
+            rows.addAll(rollupRepository.findRange(RollupGranularity.WEEK, start, to));
+        }
+
+        TreeMap<LocalDate, VerificationActivityRollup> folded = new TreeMap<>();
+        for (LocalDate bucket = start; !bucket.isAfter(to); bucket = granularity.next(bucket)) {
+            folded.put(bucket, new VerificationActivityRollup(granularity, bucket, type));
+        }
+        VerificationActivityRollup totals = new VerificationActivityRollup(granularity, start, type);
+
+        for (VerificationActivityRollup row : rows) {
+            if (type != null && row.getProfessionalType() != type) {
+                continue;
+            }
+            LocalDate bucket = granularity.bucketStart(row.getBucketStart());
+            folded.computeIfAbsent(bucket, b -> new VerificationActivityRollup(granularity, b, type)).merge(row);
+            totals.merge(row);
+        }
+
+        VerificationActivityResponse response = new VerificationActivityResponse();
+        response.setGranularity(granularity);
+        response.setFrom(start);
+        response.setTo(to);
+        response.setProfessionalType(type);
+        for (VerificationActivityRollup bucket : folded.values()) {
+            response.getBuckets().add(new VerificationActivityResponse.Bucket(
+                    bucket.getBucketStart(),
+                    bucket.getSubmittedCount(),
+                    bucket.getApprovedCount(),
+                    bucket.getRejectedCount(),
+                    averageDecisionHours(bucket)));
+        }
+        response.setTotalSubmitted(totals.getSubmittedCount());
+        response.setTotalApproved(totals.getApprovedCount());
+        response.setTotalRejected(totals.getRejectedCount());
+        response.setAverageDecisionHours(averageDecisionHours(totals));
+        response.getConfidenceDistribution().put("NO_MATCH", totals.getConfidenceNoMatch());
+        response.getConfidenceDistribution().put("POOR", totals.getConfidencePoor());
+        response.getConfidenceDistribution().put("FAIR", totals.getConfidenceFair());
+        response.getConfidenceDistribution().put("GOOD", totals.getConfidenceGood());
+        response.getConfidenceDistribution().put("EXCELLENT", totals.getConfidenceExcellent());
+        return response;
+    }
+
+    private Double averageDecisionHours(VerificationActivityRollup bucket) {
+        if (bucket.getDecisionCount() == 0) {
+            return null;
+        }
+        return bucket.getDecisionSecondsTotal() / (double) bucket.getDecisionCount() / 3600.0;
+    }
+
+    private void mergeInto(RollupGranularity granularity, LocalDate bucketStart, ProfessionalType type,
+                           VerificationActivityRollup delta) {
+        VerificationActivityRollup bucket = rollupRepository.findBucketForUpdate(granularity, bucketStart, type)
+                .orElseGet(() -> new VerificationActivityRollup(granularity, bucketStart, type));
+        bucket.merge(delta);
+        rollupRepository.save(bucket);
+    }
+
+    private void accumulate(ProfessionalType type, LocalDateTime at, Consumer<VerificationActivityRollup> update) {
+        LocalDate day = (at != null ? at : LocalDateTime.now()).toLocalDate();
+        BucketKey key = new BucketKey(day, type);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            VerificationActivityRollup delta = new VerificationActivityRollup(RollupGranularity.DAY, day, type);
+            update.accept(delta);
+            transactionTemplate.executeWithoutResult(status -> writeDeltas(Map.of(key, delta)));
+            return;
+        }
+        Map<BucketKey, VerificationActivityRollup> deltas =
+                TransactionCallbacks.beforeCommit(this, () -> new TreeMap<>(BUCKET_ORDER), this::writeDeltas);
+        update.accept(deltas.computeIfAbsent(key, k -> new VerificationActivityRollup(RollupGranularity.DAY, day, type)));
+    }
+
+    private void writeDeltas(Map<BucketKey, VerificationActivityRollup> deltas) {
+        deltas.forEach((key, delta) -> mergeInto(RollupGranularity.DAY, key.day(), key.type(), delta));
+    }
+}
@@ -0,0 +1,259 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.dto.ProfessionalVerificationResponse;
+import com.mindcare.connect.entity.ArchiveReason;
+import com.mindcare.connect.entity.ProfessionalType;
+import com.mindcare.connect.entity.ProfessionalVerification;
+import com.mindcare.connect.entity.ProfessionalVerificationArchive;
+import com.mindcare.connect.entity.User;
+import com.mindcare.connect.entity.VerificationStatus;
+import com.mindcare.connect.repository.ProfessionalVerificationArchiveRepository;
+import com.mindcare.connect.repository.ProfessionalVerificationRepository;
+import com.mindcare.connect.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Verification history outside the live workflow table.
+ * Superseded attempts are archived when a user reapplies, and rejected/revoked
+ * applications are moved by a batch job once they are older than the retention
+ * window, so professional_verifications only holds pending, under-review and
+ * approved rows. History reads use read-only transactions against the archive,
+ * which on PostgreSQL is partitioned by month of archived_at.
+ */
+@Service
+public class VerificationArchiveService {
+    private static final Logger log = LoggerFactory.getLogger(VerificationArchiveService.class);
+
+    private static final Set<VerificationStatus> ARCHIVABLE_STATUSES =
+            EnumSet.of(VerificationStatus.REJECTED, VerificationStatus.REVOKED);
+
+    private static final String ARCHIVE_TABLE = "professional_verification_archive";
+
+    private final ProfessionalVerificationArchiveRepository archiveRepository;
+    private final ProfessionalVerificationRepository verificationRepository;
+    private final UserRepository userRepository;
+    private final VerificationStatisticsService statisticsService;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${verification.archive.decided-retention-days:30}")
+    private int decidedRetentionDays;
+
+    @Value("${verification.archive.batch-size:200}")
+    private int batchSize;
+
+    @Value("${verification.archive.partitioning.enabled:false}")
+    private boolean partitioningEnabled;
+
+    @Value("${verification.archive.partitioning.months-ahead:3}")
+    private int partitionMonthsAhead;
+
+    public VerificationArchiveService(ProfessionalVerificationArchiveRepository archiveRepository,
+                                      ProfessionalVerificationRepository verificationRepository,
+                                      UserRepository userRepository,
+                                      VerificationStatisticsService statisticsService,
+                                      PlatformTransactionManager transactionManager,
+                                      JdbcTemplate jdbcTemplate) {
+        this.archiveRepository = archiveRepository;
+        this.verificationRepository = verificationRepository;
+        this.userRepository = userRepository;
+        this.statisticsService = statisticsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Move a previous attempt out of the live table when its user reapplies. The caller
+     * records the removal in the counters together with the new application.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void archiveSuperseded(ProfessionalVerification verification) {
+        archiveRepository.save(new ProfessionalVerificationArchive(verification, ArchiveReason.SUPERSEDED,
+                                                                   LocalDateTime.now()));
+        verificationRepository.delete(verification);
+        log.info("Archived previous {} application {} of user {} on reapplication",
+                 verification.getStatus(), verification.getId(), verification.getUser().getId());
+    }
+
+    /**
+     * Move rejected/revoked applications past the retention window into the archive, in batches
+     */
+    @Scheduled(cron = "${verification.archive.cron:0 15 3 * * *}")
+    public void archiveDecided() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(decidedRetentionDays);
+        int archived;
+        int total = 0;
+        do {
+            try {
+                archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            } catch (Exception e) {
+                // Usually a row changed under us (reapplication); the next run picks up the rest
+                log.warn("Archiving decided applications stopped after {} rows: {}", total, e.getMessage());
+                break;
+            }
+            total += archived;
+        } while (archived == batchSize);
+
+        if (total > 0) {
+            log.info("Archived {} decided applications last changed before {}", total, cutoff);
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = verificationRepository.findArchivableIds(ARCHIVABLE_STATUSES, cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<ProfessionalVerification> batch = verificationRepository.findAllById(ids);
+        Map<VerificationStatus, Long> removed = new EnumMap<>(VerificationStatus.class);
+        for (ProfessionalVerification verification : batch) {
+            archiveRepository.save(new ProfessionalVerificationArchive(verification, ArchiveReason.RETENTION, now));
+            removed.merge(verification.getStatus(), -1L, Long::sum);
+        }
+        // Versioned deletes, so a row modified since it was read rolls the batch back
+        verificationRepository.deleteAll(batch);
+        statisticsService.adjust(removed);
+        return batch.size();
+    }
+
+    /**
+     * Keep monthly archive partitions created ahead of time so rows never land in the default partition
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${verification.archive.partitioning.check-interval-ms:86400000}")
+    public void ensurePartitions() {
+        if (!partitioningEnabled) {
+            return;
+        }
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= partitionMonthsAhead; i++, month = month.plusMonths(1)) {
+            String partition = String.format("%s_p%04d%02d", ARCHIVE_TABLE, month.getYear(), month.getMonthValue());
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + ARCHIVE_TABLE +
+                                     " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            } catch (Exception e) {
+                log.warn("Failed to create archive partition {}: {}", partition, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Most recent archived attempt of a user
+     */
+    @Transactional(readOnly = true)
+    public Optional<ProfessionalVerificationResponse> getLatestForUser(Long userId) {
+        return archiveRepository.findFirstByUserIdOrderByArchivedAtDesc(userId)
+                .map(archive -> mapToResponse(archive, loadUsers(List.of(archive))));
+    }
+
+    /**
+     * Archived attempts of one user, newest first
+     */
+    @Transactional(readOnly = true)
+    public Page<ProfessionalVerificationResponse> getUserHistory(Long userId, Pageable pageable) {
+        return mapPage(archiveRepository.findByUserIdOrderByArchivedAtDesc(userId, pageable));
+    }
+
+    /**
+     * Archived applications in an archived-at range, optionally filtered by type and status
+     */
+    @Transactional(readOnly = true)
+    public Page<ProfessionalVerificationResponse> search(ProfessionalType type, VerificationStatus status,
+                                                         LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return mapPage(archiveRepository.search(type, status, from, to, pageable));
+    }
+
+    private Page<ProfessionalVerificationResponse> mapPage(Page<ProfessionalVerificationArchive> page) {
+        Map<Long, User> users = loadUsers(page.getContent());
+        return page.map(archive -> mapToResponse(archive, users));
+    }
+
+    // Applicants and deciding admins of all rows in one query
+    private Map<Long, User> loadUsers(List<ProfessionalVerificationArchive> archives) {
+        Set<Long> userIds = new HashSet<>();
+        for (ProfessionalVerificationArchive archive : archives) {
+            userIds.add(archive.getUserId());
+            if (archive.getVerifiedByAdminId() != null) {
+                userIds.add(archive.getVerifiedByAdminId());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private ProfessionalVerificationResponse mapToResponse(ProfessionalVerificationArchive archive, Map<Long, User> users) {
+        ProfessionalVerificationResponse response = new ProfessionalVerificationResponse();
+
+        response.setId(archive.getId());
+        response.setUserId(archive.getUserId());
+        User user = users.get(archive.getUserId());
+        if (user != null) {
+            response.setUserFullName(user.getFullName());
+            response.setUserEmail(user.getEmail());
+        }
+        response.setProfessionalType(archive.getProfessionalType());
+        response.setBmdcNumber(archive.getBmdcNumber());
+        response.setDegreeInstitution(archive.getDegreeInstitution());
+        response.setDegreeTitle(archive.getDegreeTitle());
+        response.setAffiliation(archive.getAffiliation());
+        response.setExperienceYears(archive.getExperienceYears());
+        response.setSpecialization(archive.getSpecialization());
+        response.setLicenseDocumentUrl(archive.getLicenseDocumentUrl());
+        response.setDegreeDocumentUrl(archive.getDegreeDocumentUrl());
+        response.setAdditionalDocumentsUrls(archive.getAdditionalDocumentsUrls());
+        response.setLanguagesSpoken(archive.getLanguagesSpoken());
+        response.setClinicAddress(archive.getClinicAddress());
+        response.setContactEmail(archive.getContactEmail());
+        response.setContactPhone(archive.getContactPhone());
+        response.setStatus(archive.getStatus());
+        response.setAdminNotes(archive.getAdminNotes());
+        response.setRejectionReason(archive.getRejectionReason());
+        response.setVerifiedByAdminId(archive.getVerifiedByAdminId());
+        response.setVerifiedAt(archive.getVerifiedAt());
+        response.setCorrelationId(archive.getCorrelationId());
+        response.setCreatedAt(archive.getCreatedAt());
+        response.setUpdatedAt(archive.getUpdatedAt());
+        response.setAiConfidenceScore(archive.getAiConfidenceScore());
+        response.setAiRecommendation(archive.getAiRecommendation());
+        response.setAiMatchDetails(archive.getAiMatchDetails());
+        response.setAiProcessedAt(archive.getAiProcessedAt());
+        response.setArchivedAt(archive.getArchivedAt());
+        response.setArchiveReason(archive.getArchiveReason());
+
+        User admin = archive.getVerifiedByAdminId() != null ? users.get(archive.getVerifiedByAdminId()) : null;
+        if (admin != null) {
+            response.setVerifiedByAdminName(admin.getFullName());
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,163 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.dto.VerificationStatisticsResponse;
+import com.mindcare.connect.entity.VerificationStatus;
+import com.mindcare.connect.entity.VerificationStatusCounter;
+import com.mindcare.connect.repository.ProfessionalVerificationRepository;
+import com.mindcare.connect.repository.VerificationStatusCounterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-status verification counters.
+ * The verification_status_counters table is adjusted in the same transaction as each
+ * status transition, and an in-memory mirror is updated once that transaction commits,
+ * so the admin dashboard reads statistics without touching the database.
+ */
+@Service
+public class VerificationStatisticsService {
+    private static final Logger log = LoggerFactory.getLogger(VerificationStatisticsService.class);
+
+    private final VerificationStatusCounterRepository counterRepository;
+    private final ProfessionalVerificationRepository verificationRepository;
+
+    private final Map<VerificationStatus, AtomicLong> mirror = new EnumMap<>(VerificationStatus.class);
+    private volatile LocalDateTime lastReconciledAt;
+
+    public VerificationStatisticsService(VerificationStatusCounterRepository counterRepository,
+                                         ProfessionalVerificationRepository verificationRepository) {
+        this.counterRepository = counterRepository;
+        this.verificationRepository = verificationRepository;
+        for (VerificationStatus status : VerificationStatus.values()) {
+            mirror.put(status, new AtomicLong());
+        }
+    }
+
+    /**
+     * Record a newly created application
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(VerificationStatus status) {
+        adjust(status, 1);
+    }
+
+    /**
+     * Record a status transition of an existing application
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(VerificationStatus from, VerificationStatus to) {
+        if (from != to) {
+            adjust(Map.of(from, -1L, to, 1L));
+        }
+    }
+
+    /**
+     * Apply several counter deltas in one transaction (reapplication, bulk actions, archiving).
+     * Rows are touched in status-name order, as reconcile() locks them, so no two callers can
+     * deadlock each other whatever statuses they change.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjust(Map<VerificationStatus, Long> deltas) {
+        deltas.entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .sorted(Comparator.comparing(delta -> delta.getKey().name()))
+                .forEach(delta -> adjust(delta.getKey(), delta.getValue()));
+    }
+
+    /**
+     * O(1) statistics snapshot served from the in-memory mirror
+     */
+    public VerificationStatisticsResponse getStatistics() {
+        Map<VerificationStatus, Long> counts = new EnumMap<>(VerificationStatus.class);
+        mirror.forEach((status, count) -> counts.put(status, Math.max(0L, count.get())));
+        return new VerificationStatisticsResponse(counts, lastReconciledAt);
+    }
+
+    public long getCount(VerificationStatus status) {
+        return Math.max(0L, mirror.get(status).get());
+    }
+
+    public long getTotal() {
+        return mirror.values().stream().mapToLong(count -> Math.max(0L, count.get())).sum();
+    }
+
+    /**
+     * Recompute every counter from the source table to correct any drift.
+     * The counter rows are locked before counting, so a transition committing mid-way
+     * waits for this transaction and then applies its delta on top of the recount
+     * instead of being overwritten by it.
+     */
+    @Scheduled(initialDelayString = "${verification.statistics.reconcile-initial-delay-ms:5000}",
+               fixedDelayString = "${verification.statistics.reconcile-interval-ms:300000}")
+    @Transactional
+    public void reconcile() {
+        Map<VerificationStatus, VerificationStatusCounter> counters = new EnumMap<>(VerificationStatus.class);
+        for (VerificationStatusCounter counter : counterRepository.findAllForUpdate()) {
+            counters.put(counter.getStatus(), counter);
+        }
+
+        Map<VerificationStatus, Long> actual = new EnumMap<>(VerificationStatus.class);
+        for (VerificationStatus status : VerificationStatus.values()) {
+            actual.put(status, 0L);
+        }
+        for (Object[] row : verificationRepository.getVerificationStatistics()) {
+            actual.put((VerificationStatus) row[0], ((Number) row[1]).longValue());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        actual.forEach((status, total) -> {
+            VerificationStatusCounter counter = counters.get(status);
+            if (counter == null) {
+                counterRepository.save(new VerificationStatusCounter(status, total));
+                return;
+            }
+            if (!total.equals(counter.getTotal())) {
+                log.info("Reconciling {} counter: {} -> {}", status, counter.getTotal(), total);
+            }
+            counter.setTotal(total);
+            counter.setUpdatedAt(now);
+        });
+
+        // Reload from the rows, not the recount: transitions queued on the row locks commit right
+        // behind this transaction and may bump the mirror before this callback runs
+        TransactionCallbacks.afterCommit(() -> {
+            loadMirror();
+            lastReconciledAt = now;
+        });
+    }
+
+    /**
+     * Reload the mirror from the counters table so transitions made by other instances become visible
+     */
+    @Scheduled(initialDelayString = "${verification.statistics.refresh-interval-ms:30000}",
+               fixedDelayString = "${verification.statistics.refresh-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void refreshMirror() {
+        loadMirror();
+    }
+
+    private void loadMirror() {
+        for (VerificationStatusCounter counter : counterRepository.findAll()) {
+            mirror.get(counter.getStatus()).set(counter.getTotal());
+        }
+    }
+
+    private void adjust(VerificationStatus status, long delta) {
+        int updated = counterRepository.adjust(status, delta, LocalDateTime.now());
+        if (updated == 0) {
+            // Counter row not seeded yet - the next reconciliation corrects any race here
+            counterRepository.save(new VerificationStatusCounter(status, Math.max(0L, delta)));
+        }
+        TransactionCallbacks.afterCommit(() -> mirror.get(status).addAndGet(delta));
+    }
+}
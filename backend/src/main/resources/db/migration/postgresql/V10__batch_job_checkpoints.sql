@@ -0,0 +1,11 @@
+-- Resume points for streaming batch jobs (StreamingBatchProcessor)
+
+CREATE TABLE IF NOT EXISTS batch_job_checkpoints (
+    job_name           VARCHAR(100) PRIMARY KEY,
+    last_processed_id  BIGINT NOT NULL DEFAULT 0,
+    processed_count    BIGINT NOT NULL DEFAULT 0,
+    status             VARCHAR(32) NOT NULL,
+    started_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6),
+    completed_at       TIMESTAMP(6)
+);
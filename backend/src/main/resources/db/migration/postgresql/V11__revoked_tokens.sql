@@ -0,0 +1,11 @@
+-- Revoked JWT ids (TokenRevocationService); rows are purged once the token would have expired
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti         VARCHAR(64) PRIMARY KEY,
+    user_id     BIGINT,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    revoked_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
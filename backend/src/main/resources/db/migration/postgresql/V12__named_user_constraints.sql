@@ -0,0 +1,24 @@
+-- Stable names for the users unique constraints, which registration relies on for
+-- duplicate detection. Databases bootstrapped by Hibernate carry generated names.
+
+DO $$
+DECLARE
+    col TEXT;
+    wanted TEXT;
+    existing TEXT;
+BEGIN
+    FOREACH col IN ARRAY ARRAY['email', 'phone'] LOOP
+        wanted := 'uk_users_' || col;
+        IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = 'users'::regclass AND conname = wanted) THEN
+            SELECT c.conname INTO existing
+              FROM pg_constraint c
+              JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attname = col
+             WHERE c.conrelid = 'users'::regclass AND c.contype = 'u' AND c.conkey = ARRAY[a.attnum];
+            IF existing IS NOT NULL THEN
+                EXECUTE format('ALTER TABLE users RENAME CONSTRAINT %I TO %I', existing, wanted);
+            ELSE
+                EXECUTE format('ALTER TABLE users ADD CONSTRAINT %I UNIQUE (%I)', wanted, col);
+            END IF;
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,24 @@
+-- Roles move from the user_roles collection table into a bitmask column on users.
+-- Bits: ADMIN=1, PROFESSIONAL=2, PATIENT=4, MODERATOR=8 (see Role).
+-- user_roles is kept for now but is no longer written by the application.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS roles_mask INTEGER NOT NULL DEFAULT 0;
+
+UPDATE users u
+   SET roles_mask = r.mask
+  FROM (SELECT user_id,
+               bit_or(CASE role
+                          WHEN 'ADMIN' THEN 1
+                          WHEN 'PROFESSIONAL' THEN 2
+                          WHEN 'PATIENT' THEN 4
+                          WHEN 'MODERATOR' THEN 8
+                          ELSE 0
+                      END) AS mask
+          FROM user_roles
+         GROUP BY user_id) r
+ WHERE u.id = r.user_id
+   AND u.roles_mask = 0;
+
+-- UserRepository.findByRole / streamByRole: roles_mask IN (...) ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_users_roles_mask
+    ON users (roles_mask, id);
@@ -0,0 +1,21 @@
+-- Scheduled account maintenance (AccountMaintenanceService): flag for never-onboarded
+-- accounts on users and a history of maintenance runs.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS stale_flagged_at TIMESTAMP(6);
+
+CREATE TABLE IF NOT EXISTS maintenance_job_runs (
+    id                     BIGSERIAL PRIMARY KEY,
+    job_name               VARCHAR(100) NOT NULL,
+    status                 VARCHAR(32) NOT NULL,
+    processed_count        BIGINT NOT NULL DEFAULT 0,
+    affected_count         BIGINT NOT NULL DEFAULT 0,
+    summary                VARCHAR(500),
+    error_message          VARCHAR(1000),
+    triggered_by_admin_id  BIGINT,
+    started_at             TIMESTAMP(6) NOT NULL,
+    finished_at            TIMESTAMP(6),
+    duration_ms            BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_maintenance_job_runs_job_started
+    ON maintenance_job_runs (job_name, started_at);
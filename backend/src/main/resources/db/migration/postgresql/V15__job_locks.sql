@@ -0,0 +1,9 @@
+-- Cluster-wide locks for background jobs (JobLockService): one row per job name,
+-- created on first use.
+
+CREATE TABLE IF NOT EXISTS job_locks (
+    job_name      VARCHAR(100) PRIMARY KEY,
+    locked_by     VARCHAR(64),
+    locked_at     TIMESTAMP(6),
+    locked_until  TIMESTAMP(6)
+);
@@ -0,0 +1,80 @@
+-- Baseline schema matching the JPA entities as previously created by ddl-auto=update.
+-- Every statement is idempotent so the migration can run against databases that
+-- were bootstrapped by Hibernate before Flyway was introduced.
+
+CREATE TABLE IF NOT EXISTS users (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name      VARCHAR(255) NOT NULL,
+    last_name       VARCHAR(255) NOT NULL,
+    email           VARCHAR(255) NOT NULL,
+    phone           VARCHAR(255),
+    password        VARCHAR(255) NOT NULL,
+    status          VARCHAR(255) NOT NULL,
+    email_verified  BOOLEAN NOT NULL,
+    phone_verified  BOOLEAN NOT NULL,
+    login_attempts  INTEGER NOT NULL,
+    locked_until    TIMESTAMP(6),
+    last_login      TIMESTAMP(6),
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_phone UNIQUE (phone)
+);
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    role    VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS professional_verifications (
+    id                          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id                     BIGINT NOT NULL REFERENCES users (id),
+    professional_type           VARCHAR(255) NOT NULL,
+    bmdc_number                 VARCHAR(255),
+    degree_institution          VARCHAR(255),
+    degree_title                VARCHAR(255),
+    affiliation                 VARCHAR(255),
+    experience_years            INTEGER,
+    specialization              VARCHAR(255),
+    languages_spoken            TEXT,
+    clinic_address              TEXT,
+    contact_email               VARCHAR(255),
+    contact_phone               VARCHAR(255),
+    license_document_url        VARCHAR(255) NOT NULL,
+    degree_document_url         VARCHAR(255),
+    additional_documents_urls   TEXT,
+    status                      VARCHAR(255) NOT NULL,
+    admin_notes                 TEXT,
+    rejection_reason            TEXT,
+    verified_by_admin_id        BIGINT,
+    verified_at                 TIMESTAMP(6),
+    correlation_id              VARCHAR(255) UNIQUE,
+    ai_confidence_score         DOUBLE PRECISION,
+    ai_recommendation           TEXT,
+    ai_match_details            TEXT,
+    ai_processed_at             TIMESTAMP(6),
+    created_at                  TIMESTAMP(6) NOT NULL,
+    updated_at                  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS pre_approved_professionals (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email                   VARCHAR(255) NOT NULL,
+    full_name               VARCHAR(255) NOT NULL,
+    professional_type       VARCHAR(255) NOT NULL,
+    specialization          VARCHAR(255) NOT NULL,
+    license_number          VARCHAR(255),
+    bmdc_number             VARCHAR(255),
+    degree_institution      VARCHAR(255),
+    degree_title            VARCHAR(255),
+    affiliation             VARCHAR(255),
+    experience_years        VARCHAR(255),
+    languages_spoken        VARCHAR(255),
+    clinic_address          VARCHAR(255),
+    contact_phone           VARCHAR(255),
+    license_document_url    VARCHAR(255),
+    degree_document_url     VARCHAR(255),
+    status_note             VARCHAR(255),
+    uploaded_at             TIMESTAMP(6),
+    uploaded_by             VARCHAR(255)
+);
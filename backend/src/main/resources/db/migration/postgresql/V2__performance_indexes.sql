@@ -0,0 +1,75 @@
+-- Indexes matched to the predicates of the hot repository queries.
+-- correlation_id is already covered by its unique constraint.
+
+-- ProfessionalVerificationRepository.findPendingApplications / findByStatus(status, pageable)
+CREATE INDEX IF NOT EXISTS idx_pv_status_created_at
+    ON professional_verifications (status, created_at);
+
+CREATE INDEX IF NOT EXISTS idx_pv_pending_created_at
+    ON professional_verifications (created_at)
+    WHERE status = 'PENDING';
+
+-- ProfessionalVerificationRepository.findByUserId / existsByUserId
+CREATE INDEX IF NOT EXISTS idx_pv_user_id
+    ON professional_verifications (user_id);
+
+-- ProfessionalVerificationRepository.findApprovedByBmdcNumber
+CREATE INDEX IF NOT EXISTS idx_pv_approved_bmdc_number
+    ON professional_verifications (bmdc_number)
+    WHERE status = 'APPROVED';
+
+-- ProfessionalVerificationRepository.findApprovedProfessionals / findApprovedByType / findRecentlyApproved
+CREATE INDEX IF NOT EXISTS idx_pv_approved_verified_at
+    ON professional_verifications (verified_at DESC)
+    WHERE status = 'APPROVED';
+
+CREATE INDEX IF NOT EXISTS idx_pv_approved_type_verified_at
+    ON professional_verifications (professional_type, verified_at DESC)
+    WHERE status = 'APPROVED';
+
+-- ProfessionalVerificationRepository.findByCreatedAtBetween
+CREATE INDEX IF NOT EXISTS idx_pv_created_at
+    ON professional_verifications (created_at);
+
+-- PreApprovedProfessionalRepository.findByEmailIgnoreCase*
+CREATE INDEX IF NOT EXISTS idx_pap_lower_email
+    ON pre_approved_professionals (LOWER(email));
+
+CREATE INDEX IF NOT EXISTS idx_pap_lower_email_type_specialization
+    ON pre_approved_professionals (LOWER(email), professional_type, LOWER(specialization));
+
+-- PreApprovedProfessionalRepository.findByBmdcNumberAndProfessionalType
+CREATE INDEX IF NOT EXISTS idx_pap_bmdc_number_type
+    ON pre_approved_professionals (bmdc_number, professional_type);
+
+-- PreApprovedProfessionalRepository.findByDegreeAndInstitutionAndProfessionalType
+CREATE INDEX IF NOT EXISTS idx_pap_degree_institution_type
+    ON pre_approved_professionals (degree_title, degree_institution, professional_type);
+
+-- PreApprovedProfessionalRepository.findAllByOrderByUploadedAtDesc
+CREATE INDEX IF NOT EXISTS idx_pap_uploaded_at
+    ON pre_approved_professionals (uploaded_at DESC);
+
+-- UserRepository.findByRole
+CREATE INDEX IF NOT EXISTS idx_user_roles_role_user_id
+    ON user_roles (role, user_id);
+
+CREATE INDEX IF NOT EXISTS idx_user_roles_user_id
+    ON user_roles (user_id);
+
+-- UserRepository.findUsersToUnlock / unlockExpiredAccounts
+CREATE INDEX IF NOT EXISTS idx_users_locked_until
+    ON users (locked_until)
+    WHERE locked_until IS NOT NULL;
+
+-- UserRepository.findUnverifiedUsersOlderThan
+CREATE INDEX IF NOT EXISTS idx_users_unverified_created_at
+    ON users (created_at)
+    WHERE email_verified = false;
+
+-- UserRepository.findByStatus / countNewUsersAfter
+CREATE INDEX IF NOT EXISTS idx_users_status
+    ON users (status);
+
+CREATE INDEX IF NOT EXISTS idx_users_created_at
+    ON users (created_at);
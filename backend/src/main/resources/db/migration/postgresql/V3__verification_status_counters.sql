@@ -0,0 +1,17 @@
+-- Maintained per-status counters backing the admin statistics endpoint.
+
+CREATE TABLE IF NOT EXISTS verification_status_counters (
+    status      VARCHAR(32) PRIMARY KEY,
+    total       BIGINT NOT NULL DEFAULT 0,
+    updated_at  TIMESTAMP(6)
+);
+
+INSERT INTO verification_status_counters (status, total, updated_at)
+SELECT s.status, COALESCE(c.total, 0), CURRENT_TIMESTAMP
+FROM (VALUES ('PENDING'), ('UNDER_REVIEW'), ('APPROVED'), ('REJECTED'), ('REVOKED')) AS s (status)
+LEFT JOIN (
+    SELECT status, COUNT(*) AS total
+    FROM professional_verifications
+    GROUP BY status
+) c ON c.status = s.status
+ON CONFLICT (status) DO NOTHING;
@@ -0,0 +1,55 @@
+-- Time-bucketed verification analytics. Daily buckets are maintained incrementally
+-- by the application and compacted into weekly buckets by a scheduled job.
+
+CREATE TABLE IF NOT EXISTS verification_activity_rollups (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    granularity             VARCHAR(16) NOT NULL,
+    bucket_start            DATE NOT NULL,
+    professional_type       VARCHAR(255) NOT NULL,
+    submitted_count         BIGINT NOT NULL DEFAULT 0,
+    approved_count          BIGINT NOT NULL DEFAULT 0,
+    rejected_count          BIGINT NOT NULL DEFAULT 0,
+    decision_count          BIGINT NOT NULL DEFAULT 0,
+    decision_seconds_total  BIGINT NOT NULL DEFAULT 0,
+    confidence_no_match     BIGINT NOT NULL DEFAULT 0,
+    confidence_poor         BIGINT NOT NULL DEFAULT 0,
+    confidence_fair         BIGINT NOT NULL DEFAULT 0,
+    confidence_good         BIGINT NOT NULL DEFAULT 0,
+    confidence_excellent    BIGINT NOT NULL DEFAULT 0,
+    updated_at              TIMESTAMP(6),
+    CONSTRAINT uk_activity_rollup_bucket UNIQUE (granularity, bucket_start, professional_type)
+);
+
+-- Backfill daily buckets from the existing history; the compaction job folds
+-- anything older than the retention window into weekly buckets on its first run.
+INSERT INTO verification_activity_rollups (
+    granularity, bucket_start, professional_type,
+    submitted_count, approved_count, rejected_count, decision_count, decision_seconds_total,
+    confidence_no_match, confidence_poor, confidence_fair, confidence_good, confidence_excellent,
+    updated_at)
+SELECT 'DAY', e.day, e.professional_type,
+       SUM(e.submitted), SUM(e.approved), SUM(e.rejected), SUM(e.decided), SUM(e.decision_seconds),
+       SUM(e.c_no_match), SUM(e.c_poor), SUM(e.c_fair), SUM(e.c_good), SUM(e.c_excellent),
+       CURRENT_TIMESTAMP
+FROM (
+    SELECT CAST(created_at AS DATE) AS day, professional_type,
+           1 AS submitted, 0 AS approved, 0 AS rejected, 0 AS decided, 0 AS decision_seconds,
+           CASE WHEN ai_confidence_score < 0.25 THEN 1 ELSE 0 END AS c_no_match,
+           CASE WHEN ai_confidence_score >= 0.25 AND ai_confidence_score < 0.50 THEN 1 ELSE 0 END AS c_poor,
+           CASE WHEN ai_confidence_score >= 0.50 AND ai_confidence_score < 0.75 THEN 1 ELSE 0 END AS c_fair,
+           CASE WHEN ai_confidence_score >= 0.75 AND ai_confidence_score < 0.90 THEN 1 ELSE 0 END AS c_good,
+           CASE WHEN ai_confidence_score >= 0.90 THEN 1 ELSE 0 END AS c_excellent
+    FROM professional_verifications
+    UNION ALL
+    SELECT CAST(verified_at AS DATE), professional_type,
+           0,
+           CASE WHEN status = 'APPROVED' THEN 1 ELSE 0 END,
+           CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END,
+           1,
+           GREATEST(CAST(EXTRACT(EPOCH FROM (verified_at - created_at)) AS BIGINT), 0),
+           0, 0, 0, 0, 0
+    FROM professional_verifications
+    WHERE verified_at IS NOT NULL AND status IN ('APPROVED', 'REJECTED')
+) e
+GROUP BY e.day, e.professional_type
+ON CONFLICT (granularity, bucket_start, professional_type) DO NOTHING;
@@ -0,0 +1,14 @@
+-- Review leases and optimistic locking for professional verifications.
+
+ALTER TABLE professional_verifications ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE professional_verifications ADD COLUMN IF NOT EXISTS leased_by_admin_id BIGINT;
+ALTER TABLE professional_verifications ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP(6);
+
+-- "My claimed applications" and the expired-lease sweep only touch leased rows
+CREATE INDEX IF NOT EXISTS idx_pv_leased_by_admin
+    ON professional_verifications (leased_by_admin_id, lease_expires_at)
+    WHERE leased_by_admin_id IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_pv_lease_expires_at
+    ON professional_verifications (lease_expires_at)
+    WHERE leased_by_admin_id IS NOT NULL;
@@ -0,0 +1,20 @@
+-- Priority-ordered review queue. review_priority holds the ReviewPriority rank:
+-- 0 = overdue (older than the SLA), 1 = high confidence, 2 = medium, 3 = low.
+-- The backfill uses the default thresholds (0.90 / 0.50, 48 hour SLA).
+
+ALTER TABLE professional_verifications ADD COLUMN IF NOT EXISTS review_priority INTEGER;
+
+UPDATE professional_verifications
+SET review_priority = CASE
+        WHEN status = 'PENDING' AND created_at < CURRENT_TIMESTAMP - INTERVAL '48 hours' THEN 0
+        WHEN ai_confidence_score >= 0.90 THEN 1
+        WHEN ai_confidence_score >= 0.50 THEN 2
+        ELSE 3
+    END
+WHERE review_priority IS NULL;
+
+ALTER TABLE professional_verifications ALTER COLUMN review_priority SET DEFAULT 3;
+ALTER TABLE professional_verifications ALTER COLUMN review_priority SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_pv_status_priority_created_at
+    ON professional_verifications (status, review_priority, created_at);
@@ -0,0 +1,32 @@
+-- Opt-in auto-approval: one policy row per professional type plus an audit trail of
+-- every automatic approval and every dry-run "would approve" finding.
+
+CREATE TABLE IF NOT EXISTS auto_approval_policies (
+    professional_type        VARCHAR(32) PRIMARY KEY,
+    enabled                  BOOLEAN NOT NULL DEFAULT FALSE,
+    dry_run                  BOOLEAN NOT NULL DEFAULT TRUE,
+    min_confidence           DOUBLE PRECISION NOT NULL DEFAULT 1.0,
+    require_reference_match  BOOLEAN NOT NULL DEFAULT TRUE,
+    max_per_run              INTEGER NOT NULL DEFAULT 50,
+    updated_by_admin_id      BIGINT,
+    updated_at               TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS auto_approval_audits (
+    id                         BIGSERIAL PRIMARY KEY,
+    run_id                     VARCHAR(64) NOT NULL,
+    verification_id            BIGINT NOT NULL,
+    user_id                    BIGINT,
+    professional_type          VARCHAR(255) NOT NULL,
+    outcome                    VARCHAR(32) NOT NULL,
+    dry_run                    BOOLEAN NOT NULL,
+    confidence                 DOUBLE PRECISION,
+    threshold                  DOUBLE PRECISION NOT NULL,
+    reference_professional_id  BIGINT,
+    match_details              TEXT,
+    triggered_by_admin_id      BIGINT,
+    evaluated_at               TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_auto_approval_audits_evaluated_at ON auto_approval_audits (evaluated_at);
+CREATE INDEX IF NOT EXISTS idx_auto_approval_audits_verification ON auto_approval_audits (verification_id);
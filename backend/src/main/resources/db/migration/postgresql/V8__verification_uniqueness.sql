@@ -0,0 +1,16 @@
+-- Uniqueness rules that submitApplication/approveApplication used to enforce only with
+-- check-then-insert reads. Partial unique indexes make concurrent duplicates fail at
+-- insert/update time; ConstraintViolations maps these names back to domain errors.
+
+-- At most one live (pending, under review or approved) application per user
+CREATE UNIQUE INDEX IF NOT EXISTS uq_pv_user_live
+    ON professional_verifications (user_id)
+    WHERE status IN ('PENDING', 'UNDER_REVIEW', 'APPROVED');
+
+-- A BMDC number can belong to only one approved professional
+CREATE UNIQUE INDEX IF NOT EXISTS uq_pv_approved_bmdc_number
+    ON professional_verifications (bmdc_number)
+    WHERE status = 'APPROVED' AND bmdc_number IS NOT NULL;
+
+-- Superseded by the unique index above (same predicate column)
+DROP INDEX IF EXISTS idx_pv_approved_bmdc_number;
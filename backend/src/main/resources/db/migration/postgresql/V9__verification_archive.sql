@@ -0,0 +1,70 @@
+-- History table for verification applications that left the live workflow:
+-- attempts superseded by a reapplication and rejected/revoked applications past
+-- the retention window. Range-partitioned by month of archived_at; the
+-- application creates upcoming monthly partitions ahead of time
+-- (VerificationArchiveService.ensurePartitions), the default partition only
+-- catches rows if that ever falls behind. id is the original application id.
+
+CREATE TABLE IF NOT EXISTS professional_verification_archive (
+    id                          BIGINT NOT NULL,
+    user_id                     BIGINT NOT NULL,
+    professional_type           VARCHAR(255) NOT NULL,
+    bmdc_number                 VARCHAR(255),
+    degree_institution          VARCHAR(255),
+    degree_title                VARCHAR(255),
+    affiliation                 VARCHAR(255),
+    experience_years            INTEGER,
+    specialization              VARCHAR(255),
+    languages_spoken            TEXT,
+    clinic_address              TEXT,
+    contact_email               VARCHAR(255),
+    contact_phone               VARCHAR(255),
+    license_document_url        VARCHAR(255) NOT NULL,
+    degree_document_url         VARCHAR(255),
+    additional_documents_urls   TEXT,
+    status                      VARCHAR(255) NOT NULL,
+    admin_notes                 TEXT,
+    rejection_reason            TEXT,
+    verified_by_admin_id        BIGINT,
+    verified_at                 TIMESTAMP(6),
+    correlation_id              VARCHAR(255),
+    ai_confidence_score         DOUBLE PRECISION,
+    ai_recommendation           TEXT,
+    ai_match_details            TEXT,
+    ai_processed_at             TIMESTAMP(6),
+    created_at                  TIMESTAMP(6) NOT NULL,
+    updated_at                  TIMESTAMP(6),
+    archived_at                 TIMESTAMP(6) NOT NULL,
+    archive_reason              VARCHAR(32) NOT NULL,
+    PRIMARY KEY (id, archived_at)
+) PARTITION BY RANGE (archived_at);
+
+CREATE TABLE IF NOT EXISTS professional_verification_archive_default
+    PARTITION OF professional_verification_archive DEFAULT;
+
+-- Current month and the next three, so the first archived rows never hit the default partition
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', CURRENT_DATE)::DATE;
+BEGIN
+    FOR i IN 0..3 LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF professional_verification_archive FOR VALUES FROM (%L) TO (%L)',
+            'professional_verification_archive_p' || to_char(month_start + make_interval(months => i), 'YYYYMM'),
+            month_start + make_interval(months => i),
+            month_start + make_interval(months => i + 1));
+    END LOOP;
+END $$;
+
+-- ProfessionalVerificationArchiveRepository.findFirstByUserIdOrderByArchivedAtDesc / findByUserIdOrderByArchivedAtDesc
+CREATE INDEX IF NOT EXISTS idx_pva_user_archived_at
+    ON professional_verification_archive (user_id, archived_at DESC);
+
+-- ProfessionalVerificationArchiveRepository.search
+CREATE INDEX IF NOT EXISTS idx_pva_archived_at
+    ON professional_verification_archive (archived_at DESC);
+
+-- ProfessionalVerificationRepository.findArchivableIds
+CREATE INDEX IF NOT EXISTS idx_pv_decided_status_id
+    ON professional_verifications (status, id)
+    WHERE status IN ('REJECTED', 'REVOKED');
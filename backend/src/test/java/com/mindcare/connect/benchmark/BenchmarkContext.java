@@ -0,0 +1,29 @@
+package com.mindcare.connect.benchmark;
+
+import com.mindcare.connect.MindCareConnectApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the application on the in-memory H2 profile for benchmarks that measure a
+ * request path end to end. SQL echo and info logging are off so they do not dominate.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {}
+
+    static ConfigurableApplicationContext start(String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.mindcare.connect=WARN"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        return SpringApplication.run(MindCareConnectApplication.class, args.toArray(String[]::new));
+    }
+}
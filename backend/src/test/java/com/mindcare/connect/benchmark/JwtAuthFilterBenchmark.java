@@ -0,0 +1,109 @@
+package com.mindcare.connect.benchmark;
+
+import com.mindcare.connect.config.AuthenticatedUser;
+import com.mindcare.connect.config.JwtAuthenticationFilter;
+import com.mindcare.connect.dto.AuthResponse;
+import com.mindcare.connect.dto.RegisterRequest;
+import com.mindcare.connect.service.AuthenticationService;
+import com.mindcare.connect.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication filter path for a valid bearer token: the current filter (one verification,
+ * cached key and parser, auth state from the cache) against the previous request path, which
+ * rebuilt the HMAC key and parser and verified the same token three times.
+ * Run main() on the test classpath after mvn test-compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    private ConfigurableApplicationContext context;
+    private JwtAuthenticationFilter filter;
+    private JwtService jwtService;
+    private String secret;
+    private String authorization;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkContext.start("security.bcrypt.strength=4");
+        filter = context.getBean(JwtAuthenticationFilter.class);
+        jwtService = context.getBean(JwtService.class);
+        secret = context.getEnvironment().getProperty("jwt.secret");
+
+        AuthResponse registered = context.getBean(AuthenticationService.class).register(new RegisterRequest(
+                "Bench", "Mark", "jwt-benchmark@mindcare.test", null, "Benchmark@2025", "Benchmark@2025", true)).join();
+        token = registered.getToken();
+        authorization = "Bearer " + token;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object authFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/professional/status");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+            return request.getAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Claims verifyOnce() {
+        return jwtService.parseClaims(token);
+    }
+
+    // Previous path: extractUsername, validateToken and the controller's userId lookup each built a key and parser
+    @Benchmark
+    public void verifyThreeTimesUncached(Blackhole blackhole) {
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(secret.getBytes()))
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtAuthFilterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,81 @@
+package com.mindcare.connect.benchmark;
+
+import com.mindcare.connect.service.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logins per second through the hashing pool at different BCrypt work factors, with as many
+ * callers as cores. login is a password check against a hash at the configured cost;
+ * loginAfterCostChange adds the rehash a user pays on the first login after the cost changed.
+ * Run main() on the test classpath after mvn test-compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(Threads.MAX)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "Benchmark@2025";
+
+    @Param({"10", "11", "12", "13"})
+    private int cost;
+
+    private PasswordHashingService hashingService;
+    private String currentHash;
+    private String previousCostHash;
+
+    @Setup(Level.Trial)
+    public void createPool() {
+        // Queue deep enough that every benchmark thread can have a task waiting; rejection is not measured here
+        hashingService = new PasswordHashingService(new BCryptPasswordEncoder(cost), new SimpleMeterRegistry(),
+                cost, 0, 1024, 2);
+        currentHash = new BCryptPasswordEncoder(cost).encode(PASSWORD);
+        previousCostHash = new BCryptPasswordEncoder(cost - 1).encode(PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        hashingService.shutdown();
+    }
+
+    @Benchmark
+    public boolean login() {
+        return hashingService.matches(PASSWORD, currentHash).join();
+    }
+
+    @Benchmark
+    public String loginAfterCostChange() {
+        if (!hashingService.matches(PASSWORD, previousCostHash).join()
+                || !hashingService.needsRehash(previousCostHash)) {
+            throw new IllegalStateException("Expected a matching hash that needs rehashing");
+        }
+        return hashingService.encode(PASSWORD).join();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PasswordHashingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,103 @@
+package com.mindcare.connect.benchmark;
+
+import com.mindcare.connect.dto.AuthResponse;
+import com.mindcare.connect.dto.RegisterRequest;
+import com.mindcare.connect.service.AuthenticationService;
+import com.mindcare.connect.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registration throughput on the H2 profile: new users that the registration filter rules
+ * out (one insert), the same registrations with the email and phone existence queries the
+ * previous path always ran, and duplicate emails rejected after the confirming lookup.
+ * BCrypt runs at cost 4 so the database path is what gets measured.
+ * Run main() on the test classpath after mvn test-compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RegistrationBenchmark {
+
+    private static final String PASSWORD = "Benchmark@2025";
+    private static final String DUPLICATE_EMAIL = "registration-benchmark@mindcare.test";
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private AuthenticationService authenticationService;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkContext.start("security.bcrypt.strength=4");
+        authenticationService = context.getBean(AuthenticationService.class);
+        userService = context.getBean(UserService.class);
+
+        AuthResponse seeded = authenticationService.register(request(DUPLICATE_EMAIL, null)).join();
+        if (!seeded.isSuccess()) {
+            throw new IllegalStateException("Could not seed the duplicate account: " + seeded.getMessage());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public AuthResponse registerNewUser() {
+        long n = sequence.incrementAndGet();
+        return authenticationService.register(request("new-" + n + "@mindcare.test", phone(n))).join();
+    }
+
+    // Previous path: both existence queries ran before every insert
+    @Benchmark
+    public AuthResponse registerNewUserWithLookups() {
+        long n = sequence.incrementAndGet();
+        RegisterRequest request = request("lookup-" + n + "@mindcare.test", phone(n));
+        if (userService.existsByEmail(request.getEmail()) || userService.existsByPhone(request.getPhone())) {
+            throw new IllegalStateException("Benchmark identifiers must be unique");
+        }
+        return authenticationService.register(request).join();
+    }
+
+    @Benchmark
+    public AuthResponse registerDuplicateEmail() {
+        return authenticationService.register(request(DUPLICATE_EMAIL, null)).join();
+    }
+
+    private static RegisterRequest request(String email, String phone) {
+        return new RegisterRequest("Bench", "Mark", email, phone, PASSWORD, PASSWORD, true);
+    }
+
+    private static String phone(long n) {
+        return String.format("+8801%09d", n);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RegistrationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,51 @@
+package com.mindcare.connect.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Per-IP login throttling behind a reverse proxy: with the production forward-headers
+ * strategy, clients forwarded by the same (loopback, so trusted) proxy are counted by
+ * their X-Forwarded-For address, so one client's failures do not block another.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {"server.forward-headers-strategy=native",
+                              "security.login-throttle.ip-max-attempts=3"})
+class LoginIpThrottleTest {
+
+    private static final String BLOCKED = "Too many failed login attempts";
+    private static final String INVALID = "Invalid email or password";
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void forwardedClientsHaveSeparateFailureWindows() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(login("203.0.113.10", "first-" + i).contains(INVALID));
+        }
+
+        assertTrue(login("203.0.113.10", "first-blocked").contains(BLOCKED));
+        assertTrue(login("198.51.100.20", "second").contains(INVALID));
+    }
+
+    private String login(String forwardedFor, String emailPrefix) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + emailPrefix + "@throttle.test\",\"password\":\"Wrong@2025\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
@@ -0,0 +1,340 @@
+package com.mindcare.connect.repository;
+
+import com.mindcare.connect.entity.ProfessionalType;
+import com.mindcare.connect.entity.Role;
+import com.mindcare.connect.entity.UserStatus;
+import com.mindcare.connect.entity.VerificationStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Checks that each hot repository query is planned as a scan of the index the migrations
+ * create for it. The application runs against a PostgreSQL container with the Flyway schema
+ * (skipped where Docker is unavailable, since the H2 schema has neither partial nor
+ * functional indexes); each repository method is called, and the first statement Hibernate
+ * sends for it is EXPLAINed with the same bind values, so the plan is that of the real SQL.
+ *
+ * Sequential scans are disabled so the small seeded tables cannot hide an index that does
+ * not match: the planner still falls back to a sequential scan when no index applies.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration/postgresql",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.show-sql=false",
+        // Every call has to reach the database to be captured
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IndexUsagePlanTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+    }
+
+    private record Bind(Method setter, Object[] args) {}
+
+    private record CapturedStatement(String sql, List<Bind> binds) {}
+
+    // Statements prepared on the test thread while a repository call is being captured
+    private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+    @TestConfiguration
+    static class StatementCapture {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? capturing(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    private interface RepositoryCall {
+        Object run(IndexUsagePlanTest test);
+    }
+
+    @Autowired
+    private ProfessionalVerificationRepository verificationRepository;
+
+    @Autowired
+    private PreApprovedProfessionalRepository preApprovedRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void seed() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(
+                "INSERT INTO users (first_name, last_name, email, password, status, email_verified, phone_verified, " +
+                "login_attempts, locked_until, created_at, roles_mask) " +
+                "SELECT 'First', 'Last', 'user' || i || '@plan.test', 'hash', " +
+                "CASE WHEN i % 50 = 0 THEN 'SUSPENDED' ELSE 'ACTIVE' END, i % 10 <> 0, false, 0, " +
+                "CASE WHEN i % 100 = 0 THEN now() - interval '1 hour' END, now() - i * interval '1 hour', " +
+                "CASE WHEN i % 20 = 0 THEN 6 ELSE 4 END " +
+                "FROM generate_series(1, 5000) AS i");
+        jdbcTemplate.execute(
+                "INSERT INTO professional_verifications (user_id, professional_type, bmdc_number, license_document_url, " +
+                "status, verified_at, correlation_id, created_at, leased_by_admin_id, lease_expires_at) " +
+                "SELECT u.id, CASE WHEN u.id % 2 = 0 THEN 'PSYCHIATRIST' ELSE 'PSYCHOLOGIST' END, 'BMDC-' || u.id, " +
+                "'https://example.org/license.pdf', " +
+                "(ARRAY['PENDING', 'UNDER_REVIEW', 'APPROVED', 'APPROVED', 'APPROVED', 'REJECTED', 'REVOKED'])[u.id % 7 + 1], " +
+                "CASE WHEN u.id % 7 IN (2, 3, 4) THEN now() - u.id * interval '1 hour' END, 'corr-' || u.id, " +
+                "now() - u.id * interval '1 hour', " +
+                "CASE WHEN u.id % 70 = 0 THEN 1 END, CASE WHEN u.id % 70 = 0 THEN now() + interval '10 minutes' END " +
+                "FROM users u");
+        jdbcTemplate.execute(
+                "INSERT INTO pre_approved_professionals (email, full_name, professional_type, specialization, " +
+                "bmdc_number, degree_title, degree_institution, uploaded_at) " +
+                "SELECT 'Ref' || i || '@Plan.Test', 'Reference ' || i, " +
+                "CASE WHEN i % 2 = 0 THEN 'PSYCHIATRIST' ELSE 'PSYCHOLOGIST' END, 'Specialty ' || (i % 12), " +
+                "'BMDC-' || i, 'Degree ' || (i % 30), 'Institution ' || (i % 40), now() - i * interval '1 minute' " +
+                "FROM generate_series(1, 5000) AS i");
+        jdbcTemplate.execute(
+                "INSERT INTO revoked_tokens (jti, user_id, expires_at, revoked_at) " +
+                "SELECT 'jti-' || i, i, now() + (i - 2500) * interval '1 minute', now() - i * interval '1 second' " +
+                "FROM generate_series(1, 5000) AS i");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    static Stream<Arguments> hotQueries() {
+        LocalDateTime now = LocalDateTime.now();
+        return Stream.of(
+                hotQuery("ProfessionalVerificationRepository.findPendingApplications",
+                         test -> test.verificationRepository.findPendingApplications(PageRequest.of(0, 20)),
+                         "idx_pv_pending_created_at", "idx_pv_status_created_at"),
+                hotQuery("ProfessionalVerificationRepository.findPriorityQueue",
+                         test -> test.verificationRepository.findPriorityQueue(PageRequest.of(0, 20)),
+                         "idx_pv_status_priority_created_at"),
+                hotQuery("ProfessionalVerificationRepository.findByStatus",
+                         test -> test.verificationRepository.findByStatus(VerificationStatus.UNDER_REVIEW, PageRequest.of(0, 20)),
+                         "idx_pv_status_created_at", "idx_pv_status_priority_created_at"),
+                hotQuery("ProfessionalVerificationRepository.findByUserId",
+                         test -> test.verificationRepository.findByUserId(42L),
+                         "idx_pv_user_id"),
+                hotQuery("ProfessionalVerificationRepository.findByCorrelationId",
+                         test -> test.verificationRepository.findByCorrelationId("corr-42"),
+                         "professional_verifications_correlation_id_key"),
+                hotQuery("ProfessionalVerificationRepository.findApprovedByBmdcNumber",
+                         test -> test.verificationRepository.findApprovedByBmdcNumber("BMDC-2"),
+                         "uq_pv_approved_bmdc_number"),
+                hotQuery("ProfessionalVerificationRepository.findApprovedProfessionals",
+                         test -> test.verificationRepository.findApprovedProfessionals(PageRequest.of(0, 20)),
+                         "idx_pv_approved_verified_at", "idx_pv_approved_type_verified_at"),
+                hotQuery("ProfessionalVerificationRepository.findApprovedByType",
+                         test -> test.verificationRepository.findApprovedByType(ProfessionalType.PSYCHIATRIST, PageRequest.of(0, 20)),
+                         "idx_pv_approved_type_verified_at"),
+                hotQuery("ProfessionalVerificationRepository.findByCreatedAtBetween",
+                         test -> test.verificationRepository.findByCreatedAtBetween(now.minusDays(2), now.minusDays(1)),
+                         "idx_pv_created_at"),
+                hotQuery("ProfessionalVerificationRepository.findActiveLeases",
+                         test -> test.verificationRepository.findActiveLeases(1L, now),
+                         "idx_pv_leased_by_admin"),
+                hotQuery("ProfessionalVerificationRepository.findArchivableIds",
+                         test -> test.verificationRepository.findArchivableIds(
+                                 EnumSet.of(VerificationStatus.REJECTED, VerificationStatus.REVOKED),
+                                 now.minusDays(30), PageRequest.of(0, 200)),
+                         "idx_pv_decided_status_id"),
+                hotQuery("PreApprovedProfessionalRepository.findByEmailIgnoreCase",
+                         test -> test.preApprovedRepository.findByEmailIgnoreCase("REF42@plan.test"),
+                         "idx_pap_lower_email", "idx_pap_lower_email_type_specialization"),
+                hotQuery("PreApprovedProfessionalRepository.findByEmailIgnoreCaseAndProfessionalTypeAndSpecializationIgnoreCase",
+                         test -> test.preApprovedRepository.findByEmailIgnoreCaseAndProfessionalTypeAndSpecializationIgnoreCase(
+                                 "ref42@plan.test", ProfessionalType.PSYCHIATRIST, "specialty 6"),
+                         "idx_pap_lower_email_type_specialization", "idx_pap_lower_email"),
+                hotQuery("PreApprovedProfessionalRepository.findByBmdcNumberAndProfessionalType",
+                         test -> test.preApprovedRepository.findByBmdcNumberAndProfessionalType("BMDC-42", ProfessionalType.PSYCHIATRIST),
+                         "idx_pap_bmdc_number_type"),
+                hotQuery("PreApprovedProfessionalRepository.findByDegreeAndInstitutionAndProfessionalType",
+                         test -> test.preApprovedRepository.findByDegreeAndInstitutionAndProfessionalType(
+                                 "Degree 12", "Institution 2", ProfessionalType.PSYCHIATRIST),
+                         "idx_pap_degree_institution_type"),
+                hotQuery("PreApprovedProfessionalRepository.findAllByOrderByUploadedAtDesc",
+                         test -> test.preApprovedRepository.findAllByOrderByUploadedAtDesc(),
+                         "idx_pap_uploaded_at"),
+                hotQuery("UserRepository.findByRole",
+                         test -> test.userRepository.findByRole(Role.PROFESSIONAL),
+                         "idx_users_roles_mask"),
+                hotQuery("UserRepository.findUsersToUnlock",
+                         test -> test.userRepository.findUsersToUnlock(now),
+                         "idx_users_locked_until"),
+                hotQuery("UserRepository.findUnverifiedUsersOlderThan",
+                         test -> test.userRepository.findUnverifiedUsersOlderThan(now.minusDays(30)),
+                         "idx_users_unverified_created_at"),
+                hotQuery("UserRepository.findByStatus",
+                         test -> test.userRepository.findByStatus(UserStatus.SUSPENDED),
+                         "idx_users_status"),
+                hotQuery("UserRepository.countNewUsersAfter",
+                         test -> test.userRepository.countNewUsersAfter(now.minusDays(1)),
+                         "idx_users_created_at", "idx_users_unverified_created_at"),
+                hotQuery("RevokedTokenRepository.deleteExpired",
+                         test -> test.revokedTokenRepository.deleteExpired(now),
+                         "idx_revoked_tokens_expires_at")
+        );
+    }
+
+    private static Arguments hotQuery(String name, RepositoryCall call, String... expectedIndexes) {
+        return arguments(name, call, Set.of(expectedIndexes));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesItsIndex(String query, RepositoryCall call, Set<String> expectedIndexes) throws SQLException {
+        CapturedStatement statement = capture(call);
+        List<String> plan = explain(statement);
+        boolean usesExpectedIndex = plan.stream().anyMatch(line ->
+                (line.contains("Index Scan") || line.contains("Index Only Scan") || line.contains("Bitmap Index Scan")) &&
+                expectedIndexes.stream().anyMatch(index -> line.contains(" " + index)));
+        assertTrue(usesExpectedIndex, () -> query + " should scan one of " + expectedIndexes + ", plan of\n" +
+                                           statement.sql() + "\nwas:\n" + String.join("\n", plan));
+    }
+
+    // Run the call in a rolled-back transaction and keep the first statement it sent
+    private CapturedStatement capture(RepositoryCall call) {
+        List<CapturedStatement> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                call.run(this);
+                status.setRollbackOnly();
+            });
+        } finally {
+            CAPTURED.remove();
+        }
+        assertFalse(statements.isEmpty(), "The repository call sent no statement");
+        return statements.get(0);
+    }
+
+    private List<String> explain(CapturedStatement captured) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + captured.sql())) {
+                for (Bind bind : captured.binds()) {
+                    bind.setter().invoke(statement, bind.args());
+                }
+                List<String> plan = new ArrayList<>();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        plan.add(rows.getString(1));
+                    }
+                }
+                return plan;
+            } catch (ReflectiveOperationException e) {
+                throw new SQLException("Could not replay the bind values", e);
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("RESET enable_seqscan");
+                }
+            }
+        }
+    }
+
+    private static DataSource capturing(DataSource dataSource) {
+        return (DataSource) Proxy.newProxyInstance(IndexUsagePlanTest.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+                    Object result = invoke(dataSource, method, args);
+                    return result instanceof Connection connection ? capturing(connection) : result;
+                });
+    }
+
+    private static Connection capturing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(IndexUsagePlanTest.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                        return capturing(statement, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+        List<Bind> binds = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(IndexUsagePlanTest.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        binds.add(new Bind(method, args.clone()));
+                    } else if (name.equals("clearParameters")) {
+                        binds.clear();
+                    } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                        List<CapturedStatement> captured = CAPTURED.get();
+                        if (captured != null) {
+                            captured.add(new CapturedStatement(sql, List.copyOf(binds)));
+                        }
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.mindcare.connect.service;
+
+import com.mindcare.connect.dto.ProfessionalVerificationRequest;
+import com.mindcare.connect.dto.ProfessionalVerificationResponse;
+import com.mindcare.connect.entity.ProfessionalType;
+import com.mindcare.connect.entity.ProfessionalVerification;
+import com.mindcare.connect.entity.User;
+import com.mindcare.connect.entity.VerificationStatus;
+import com.mindcare.connect.repository.PreApprovedProfessionalRepository;
+import com.mindcare.connect.repository.ProfessionalVerificationRepository;
+import com.mindcare.connect.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Races concurrent submissions and approvals against the same user and BMDC number
+ * and checks that exactly one wins and every loser gets the domain error. The stripes
+ * serialize submissions within one instance, so the cross-instance case uses a second
+ * service with its own stripes whose pre-check misses the first instance's application.
+ */
+@SpringBootTest
+@Sql(scripts = "/sql/h2-verification-uniqueness.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class ProfessionalVerificationConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ProfessionalVerificationService verificationService;
+
+    @Autowired
+    private ProfessionalVerificationRepository verificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PreApprovedProfessionalRepository preApprovedRepository;
+
+    @Autowired
+    private AutoVerificationAgent autoVerificationAgent;
+
+    @Autowired
+    private VerificationStatisticsService statisticsService;
+
+    @Autowired
+    private VerificationAnalyticsService analyticsService;
+
+    @Autowired
+    private ReviewPriorityService reviewPriorityService;
+
+    @Autowired
+    private VerificationArchiveService archiveService;
+
+    @Autowired
+    private UserAuthStateCache authStateCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentSubmissionsForSameUserLeaveOneApplication() throws Exception {
+        User user = createUser("same-user");
+
+        List<Outcome> outcomes = race(THREADS, i ->
+                verificationService.submitApplication(user.getId(), psychiatristRequest("BMDC-" + (700000 + i))));
+
+        assertOneWinner(outcomes, "Failed to submit verification application: You already have a pending verification application");
+        assertTrue(verificationRepository.findByUserId(user.getId()).isPresent());
+        assertEquals(VerificationStatus.PENDING, verificationRepository.findByUserId(user.getId()).get().getStatus());
+    }
+
+    // The other instance checked for an existing application before this one committed, so
+    // its insert reaches uq_pv_user_live; H2 reports conflicts with an uncommitted row as a
+    // concurrent update rather than a unique violation, so the interleaving is replayed in order
+    @Test
+    void submissionFromAnotherInstanceStoppedByIndexGetsDomainError() {
+        User user = createUser("other-instance");
+        verificationService.submitApplication(user.getId(), psychiatristRequest("BMDC-720000"));
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> secondInstanceWithStalePreCheck()
+                .submitApplication(user.getId(), psychiatristRequest("BMDC-720001")));
+
+        assertEquals("Failed to submit verification application: You already have a pending verification application",
+                     error.getMessage());
+        assertEquals(VerificationStatus.PENDING, verificationRepository.findByUserId(user.getId()).get().getStatus());
+    }
+
+    @Test
+    void concurrentApprovalsForSameBmdcNumberApproveOne() throws Exception {
+        String bmdcNumber = "BMDC-424242";
+        List<Long> verificationIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            User user = createUser("same-bmdc-" + i);
+            verificationIds.add(verificationService.submitApplication(user.getId(), psychiatristRequest(bmdcNumber)).getId());
+        }
+
+        List<Outcome> outcomes = race(THREADS, i ->
+                verificationService.approveApplication(verificationIds.get(i), 1L, "approved in race"));
+
+        assertOneWinner(outcomes, "Failed to approve verification: BMDC number already registered by another professional");
+        List<ProfessionalVerification> approved = verificationRepository.findApprovedByBmdcNumber(bmdcNumber);
+        assertEquals(1, approved.size());
+    }
+
+    @Test
+    void concurrentSubmissionsForApprovedBmdcNumberAreAllRejected() throws Exception {
+        String bmdcNumber = "BMDC-515151";
+        User holder = createUser("bmdc-holder");
+        Long holderApplication = verificationService.submitApplication(holder.getId(), psychiatristRequest(bmdcNumber)).getId();
+        verificationService.approveApplication(holderApplication, 1L, null);
+
+        List<User> applicants = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            applicants.add(createUser("bmdc-applicant-" + i));
+        }
+
+        List<Outcome> outcomes = race(THREADS, i ->
+                verificationService.submitApplication(applicants.get(i).getId(), psychiatristRequest(bmdcNumber)));
+
+        for (Outcome outcome : outcomes) {
+            assertEquals("Failed to submit verification application: BMDC number already registered by another professional",
+                         outcome.error());
+        }
+        for (User applicant : applicants) {
+            assertTrue(verificationRepository.findByUserId(applicant.getId()).isEmpty());
+        }
+    }
+
+    private record Outcome(ProfessionalVerificationResponse response, String error) {}
+
+    @FunctionalInterface
+    private interface Attempt {
+        ProfessionalVerificationResponse run(int index);
+    }
+
+    // Release all attempts at once so they overlap as much as the scheduler allows
+    private List<Outcome> race(int threads, Attempt attempt) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Outcome>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                Callable<Outcome> task = () -> {
+                    start.await();
+                    try {
+                        return new Outcome(attempt.run(index), null);
+                    } catch (RuntimeException e) {
+                        return new Outcome(null, e.getMessage());
+                    }
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                outcomes.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertOneWinner(List<Outcome> outcomes, String expectedError) {
+        long winners = outcomes.stream().filter(outcome -> outcome.error() == null).count();
+        assertEquals(1, winners, () -> "Expected exactly one winner, got " + outcomes);
+        for (Outcome outcome : outcomes) {
+            if (outcome.error() != null) {
+                assertEquals(expectedError, outcome.error());
+            }
+        }
+    }
+
+    // Another instance: separate stripes, and a pre-check that read before the other instance committed
+    private ProfessionalVerificationService secondInstanceWithStalePreCheck() {
+        ProfessionalVerificationRepository staleReads = (ProfessionalVerificationRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{ProfessionalVerificationRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByUserId")) {
+                        return Optional.empty();
+                    }
+                    try {
+                        return method.invoke(verificationRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        ProfessionalVerificationService service = new ProfessionalVerificationService(
+                staleReads, preApprovedRepository, userRepository, autoVerificationAgent, statisticsService,
+                analyticsService, reviewPriorityService, archiveService, authStateCache, transactionManager);
+        ReflectionTestUtils.setField(service, "submissionLockTimeoutMs", 5000L);
+        return service;
+    }
+
+    private User createUser(String name) {
+        return userRepository.save(new User("Test", "User", name + "@concurrency.test", "not-a-real-hash"));
+    }
+
+    private ProfessionalVerificationRequest psychiatristRequest(String bmdcNumber) {
+        ProfessionalVerificationRequest request =
+                new ProfessionalVerificationRequest(ProfessionalType.PSYCHIATRIST, "https://example.org/license.pdf");
+        request.setBmdcNumber(bmdcNumber);
+        request.setSpecialization("General Psychiatry");
+        request.setExperienceYears(5);
+        return request;
+    }
+}
@@ -0,0 +1,11 @@
+-- H2 stand-in for the partial unique indexes of V8 (PostgreSQL only; the H2 schema is
+-- generated by Hibernate). H2 has no partial indexes, so each predicate becomes a generated
+-- column that is NULL outside it, and NULLs never collide in a unique index.
+
+ALTER TABLE professional_verifications ADD COLUMN IF NOT EXISTS live_user_id BIGINT
+    GENERATED ALWAYS AS (CASE WHEN status IN ('PENDING', 'UNDER_REVIEW', 'APPROVED') THEN user_id END);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_pv_user_live ON professional_verifications (live_user_id);
+
+ALTER TABLE professional_verifications ADD COLUMN IF NOT EXISTS approved_bmdc_number VARCHAR(255)
+    GENERATED ALWAYS AS (CASE WHEN status = 'APPROVED' THEN bmdc_number END);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_pv_approved_bmdc_number ON professional_verifications (approved_bmdc_number);
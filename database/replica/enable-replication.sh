@@ -0,0 +1,5 @@
+#!/bin/bash
+# Allow streaming replication connections from the local docker network.
+# Runs once, on first initialisation of the primary's data directory.
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
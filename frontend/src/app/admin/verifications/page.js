@@ -61,7 +61,9 @@ export default function AdminVerificationDashboard() {
       
       if (response && response.content) {
         setApplications(response.content);
-        setTotalPages(response.totalPages);
+        // Compact view: total comes from the status counters, hasNext from the slice
+        const countedPages = Math.ceil((response.total || 0) / 10);
+        setTotalPages(Math.max(countedPages, currentPage + (response.hasNext ? 2 : 1)));
       }
     } catch (error) {
       console.error('Error fetching applications:', error);
@@ -73,7 +75,7 @@ export default function AdminVerificationDashboard() {
   const fetchStatistics = async () => {
     try {
       const stats = await apiService.getVerificationStatistics();
-      setStatistics(stats || []);
+      setStatistics(Object.entries(stats?.counts || {}));
     } catch (error) {
       console.error('Error fetching statistics:', error);
     }
@@ -187,14 +187,15 @@ export const apiService = {
   // Admin Professional Verification API methods
   async getPendingVerifications(page = 0, size = 10) {
     return apiWithRetry(async () => {
-      const response = await api.get(`/api/admin/verifications/pending?page=${page}&size=${size}`);
+      const params = new URLSearchParams({ page, size, view: 'compact', includeTotal: true });
+      const response = await api.get(`/api/admin/verifications/pending?${params}`);
       return response.data;
     });
   },
 
   async getAllVerifications(status = null, page = 0, size = 10) {
     return apiWithRetry(async () => {
-      const params = new URLSearchParams({ page, size });
+      const params = new URLSearchParams({ page, size, view: 'compact', includeTotal: true });
       if (status) params.append('status', status);
       const response = await api.get(`/api/admin/verifications?${params}`);
       return response.data;
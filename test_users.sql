@@ -2,39 +2,24 @@
 -- These users will apply for verification (some will be approved, some rejected)
 
 -- Test User 1: Will apply as psychiatrist (should be approved)
-INSERT INTO users (first_name, last_name, email, password, status, email_verified, phone_verified, login_attempts, created_at, updated_at, phone)
-VALUES ('Shahid', 'Rahman', 'shahid.rahman@email.com', '$2a$10$rLq2l3xJe5k7YhYEe5LKYOHJh5YmJhYaZcRhXcYhZaUhZhYeZhYhY', 'ACTIVE', true, false, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '+8801712345001');
-
-INSERT INTO user_roles (user_id, role)
-SELECT id, 'PATIENT' FROM users WHERE email = 'shahid.rahman@email.com';
+INSERT INTO users (first_name, last_name, email, password, status, email_verified, phone_verified, login_attempts, created_at, updated_at, phone, roles_mask)
+VALUES ('Shahid', 'Rahman', 'shahid.rahman@email.com', '$2a$10$rLq2l3xJe5k7YhYEe5LKYOHJh5YmJhYaZcRhXcYhZaUhZhYeZhYhY', 'ACTIVE', true, false, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '+8801712345001', 4);
 
 -- Test User 2: Will apply as psychologist (should be approved)
-INSERT INTO users (first_name, last_name, email, password, status, email_verified, phone_verified, login_attempts, created_at, updated_at, phone)
-VALUES ('Mariam', 'Ahmed', 'mariam.ahmed@email.com', '$2a$10$rLq2l3xJe5k7YhYEe5LKYOHJh5YmJhYaZcRhXcYhZaUhZhYeZhYhY', 'ACTIVE', true, false, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '+8801812345002');
-
-INSERT INTO user_roles (user_id, role)
-SELECT id, 'PATIENT' FROM users WHERE email = 'mariam.ahmed@email.com';
+INSERT INTO users (first_name, last_name, email, password, status, email_verified, phone_verified, login_attempts, created_at, updated_at, phone, roles_mask)
+VALUES ('Mariam', 'Ahmed', 'mariam.ahmed@email.com', '$2a$10$rLq2l3xJe5k7YhYEe5LKYOHJh5YmJhYaZcRhXcYhZaUhZhYeZhYhY', 'ACTIVE', true, false, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '+8801812345002', 4);
 
 -- Test User 3: Will apply as psychiatrist (should be rejected - invalid BMDC)
-INSERT INTO users (first_name, last_name, email, password, status, email_verified, phone_verified, login_attempts, created_at, updated_at, phone)
-VALUES ('Tariq', 'Hassan', 'tariq.hassan@email.com', '$2a$10$rLq2l3xJe5k7YhYEe5LKYOHJh5YmJhYaZcRhXcYhZaUhZhYeZhYhY', 'ACTIVE', true, false, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '+8801912345003');
-
-INSERT INTO user_roles (user_id, role)
-SELECT id, 'PATIENT' FROM users WHERE email = 'tariq.hassan@email.com';
+INSERT INTO users (first_name, last_name, email, password, status, email_verified, phone_verified, login_attempts, created_at, updated_at, phone, roles_mask)
+VALUES ('Tariq', 'Hassan', 'tariq.hassan@email.com', '$2a$10$rLq2l3xJe5k7YhYEe5LKYOHJh5YmJhYaZcRhXcYhZaUhZhYeZhYhY', 'ACTIVE', true, false, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '+8801912345003', 4);
 
 -- Test User 4: Will apply as psychologist (should be rejected - insufficient qualifications)
-INSERT INTO users (first_name, last_name, email, password, status, email_verified, phone_verified, login_attempts, created_at, updated_at, phone)
-VALUES ('Sabina', 'Khatun', 'sabina.khatun@email.com', '$2a$10$rLq2l3xJe5k7YhYEe5LKYOHJh5YmJhYaZcRhXcYhZaUhZhYeZhYhY', 'ACTIVE', true, false, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '+8801612345004');
-
-INSERT INTO user_roles (user_id, role)
-SELECT id, 'PATIENT' FROM users WHERE email = 'sabina.khatun@email.com';
+INSERT INTO users (first_name, last_name, email, password, status, email_verified, phone_verified, login_attempts, created_at, updated_at, phone, roles_mask)
+VALUES ('Sabina', 'Khatun', 'sabina.khatun@email.com', '$2a$10$rLq2l3xJe5k7YhYEe5LKYOHJh5YmJhYaZcRhXcYhZaUhZhYeZhYhY', 'ACTIVE', true, false, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '+8801612345004', 4);
 
 -- Test User 5: Regular patient (won't apply for verification)
-INSERT INTO users (first_name, last_name, email, password, status, email_verified, phone_verified, login_attempts, created_at, updated_at, phone)
-VALUES ('Rohit', 'Das', 'rohit.das@email.com', '$2a$10$rLq2l3xJe5k7YhYEe5LKYOHJh5YmJhYaZcRhXcYhZaUhZhYeZhYhY', 'ACTIVE', true, false, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '+8801512345005');
-
-INSERT INTO user_roles (user_id, role)
-SELECT id, 'PATIENT' FROM users WHERE email = 'rohit.das@email.com';
+INSERT INTO users (first_name, last_name, email, password, status, email_verified, phone_verified, login_attempts, created_at, updated_at, phone, roles_mask)
+VALUES ('Rohit', 'Das', 'rohit.das@email.com', '$2a$10$rLq2l3xJe5k7YhYEe5LKYOHJh5YmJhYaZcRhXcYhZaUhZhYeZhYhY', 'ACTIVE', true, false, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '+8801512345005', 4);
 
 -- Add some sample verification applications to test the admin interface
 -- Application 1: Pending application from Shahid (Psychiatrist)
@@ -110,9 +95,8 @@ SELECT
     u.email,
     u.phone,
     u.status,
-    STRING_AGG(ur.role, ', ') as roles
+    u.roles_mask
 FROM users u
-LEFT JOIN user_roles ur ON u.id = ur.user_id
 WHERE u.email IN (
     'shahid.rahman@email.com',
     'mariam.ahmed@email.com', 
@@ -120,5 +104,4 @@ WHERE u.email IN (
     'sabina.khatun@email.com',
     'rohit.das@email.com'
 )
-GROUP BY u.id, u.first_name, u.last_name, u.email, u.phone, u.status
 ORDER BY u.id;